@@ -0,0 +1,94 @@
+package com.jjapartments.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.jjapartments.backend.models.Category;
+import com.jjapartments.backend.models.Status;
+
+// Label lookup per call: the precomputed tables behind fromLabel against the linear
+// equalsIgnoreCase scan it replaced, and the valueOf-with-munging the ticket list
+// endpoint used for request parameters. "stored" inputs are labels as the database
+// returns them; "request" inputs are what clients send (any case, enum names).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnumLookupBenchmark {
+
+    private static final String[] STORED_STATUSES = { "Pending", "In Progress", "Resolved", "Closed" };
+    private static final String[] STORED_CATEGORIES = { "Maintenance & Repairs", "Security & Safety", "Utilities",
+            "Payment & Billing", "Amenities & Facilities", "Others" };
+    private static final String[] REQUEST_STATUSES = { "pending", "in progress", "IN_PROGRESS", "RESOLVED",
+            "closed" };
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void storedLabelsLookup(Blackhole blackhole) {
+        for (String label : STORED_STATUSES) {
+            blackhole.consume(Status.fromLabel(label));
+        }
+        for (String label : STORED_CATEGORIES) {
+            blackhole.consume(Category.fromLabel(label));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void storedLabelsScan(Blackhole blackhole) {
+        for (String label : STORED_STATUSES) {
+            blackhole.consume(scanStatus(label));
+        }
+        for (String label : STORED_CATEGORIES) {
+            blackhole.consume(scanCategory(label));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void requestStatusLookup(Blackhole blackhole) {
+        for (String label : REQUEST_STATUSES) {
+            blackhole.consume(Status.fromLabel(label));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void requestStatusValueOf(Blackhole blackhole) {
+        for (String label : REQUEST_STATUSES) {
+            blackhole.consume(Status.valueOf(label.trim().toUpperCase().replace(" ", "_")));
+        }
+    }
+
+    // the previous Status.fromLabel / Category.fromLabel
+    private static Status scanStatus(String label) {
+        for (Status s : Status.values()) {
+            if (s.getLabel().equalsIgnoreCase(label)) {
+                return s;
+            }
+        }
+        throw new IllegalArgumentException("Unknown status label: " + label);
+    }
+
+    private static Category scanCategory(String label) {
+        for (Category c : Category.values()) {
+            if (c.getLabel().equalsIgnoreCase(label)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("Unknown category label: " + label);
+    }
+}
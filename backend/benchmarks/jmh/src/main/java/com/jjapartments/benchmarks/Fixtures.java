@@ -0,0 +1,130 @@
+package com.jjapartments.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic rows shaped like the production tables (same columns, DECIMAL money,
+// DATE/DATETIME columns, nullable move-out and paid-at dates, a mix of ticket enums).
+public final class Fixtures {
+
+    private static final String[] CATEGORIES = { "Maintenance & Repairs", "Security & Safety", "Utilities",
+            "Payment & Billing", "Amenities & Facilities", "Others" };
+    private static final String[] STATUSES = { "Pending", "In Progress", "Resolved", "Closed" };
+    private static final LocalDate START = LocalDate.of(2023, 1, 1);
+
+    private Fixtures() {
+    }
+
+    public static SyntheticResultSet units(int rows) {
+        return build(rows, new String[] { "id", "unit_number", "name", "description", "price", "num_occupants",
+                "active_tenant_id", "curr_occupants" },
+                (i, random) -> new Object[] { i, "U-" + (100 + i), "JJ Apartments " + (i % 3 + 1),
+                        "Two-bedroom unit, floor " + (i % 5 + 1), money(random, 5000, 15000), 4,
+                        i % 4 == 0 ? null : i, random.nextInt(5) });
+    }
+
+    public static SyntheticResultSet tenants(int rows) {
+        return build(rows, new String[] { "id", "last_name", "first_name", "middle_initial", "email",
+                "phone_number", "messenger_link", "units_id", "move_in_date", "move_out_date" },
+                (i, random) -> new Object[] { i, "Dela Cruz", "Juan " + i, "M", "tenant" + i + "@example.com",
+                        "0917" + (1000000 + i), "https://m.me/tenant" + i, i % 50 + 1, START.plusDays(i % 700),
+                        i % 3 == 0 ? START.plusDays(i % 700 + 200) : null });
+    }
+
+    public static SyntheticResultSet subTenants(int rows) {
+        return build(rows, new String[] { "id", "last_name", "first_name", "middle_initial", "phone_number",
+                "messenger_link", "main_tenant_id" },
+                (i, random) -> new Object[] { i, "Santos", "Maria " + i, null, "0918" + (1000000 + i), null,
+                        i % 100 + 1 });
+    }
+
+    public static SyntheticResultSet payments(int rows) {
+        return build(rows, new String[] { "id", "units_id", "mode_of_payment", "amount", "due_date",
+                "month_of_start", "month_of_end", "is_paid", "paid_at" },
+                (i, random) -> {
+                    LocalDate month = START.plusMonths(i % 36);
+                    boolean paid = i % 4 != 0;
+                    return new Object[] { i, i % 50 + 1, paid ? "GCash" : null, money(random, 5000, 15000),
+                            month.plusDays(4), month, month.plusMonths(1).minusDays(1), paid ? 1 : 0,
+                            paid ? month.plusDays(random.nextInt(10)) : null };
+                });
+    }
+
+    public static SyntheticResultSet utilities(int rows) {
+        return build(rows, new String[] { "id", "type", "previous_reading", "current_reading", "total_meter",
+                "total_amount", "due_date", "month_of_start", "month_of_end", "is_paid", "paid_at", "units_id",
+                "rates_id" },
+                (i, random) -> {
+                    LocalDate month = START.plusMonths(i % 36);
+                    boolean paid = i % 3 != 0;
+                    return new Object[] { i, i % 2 == 0 ? "Meralco" : "Manila Water", money(random, 1000, 2000),
+                            money(random, 2000, 3000), money(random, 50, 500), money(random, 500, 4000),
+                            month.plusDays(14), month, month.plusMonths(1).minusDays(1), paid ? 1 : 0,
+                            paid ? month.plusDays(random.nextInt(20)) : null, i % 50 + 1, i % 10 + 1 };
+                });
+    }
+
+    public static SyntheticResultSet expenses(int rows) {
+        return build(rows, new String[] { "id", "units_id", "amount", "mode_of_payment", "reason", "date" },
+                (i, random) -> new Object[] { i, i % 50 + 1, money(random, 100, 5000), "Cash", "Plumbing repair",
+                        START.plusDays(i % 1000) });
+    }
+
+    public static SyntheticResultSet rates(int rows) {
+        return build(rows, new String[] { "id", "type", "rate", "date" },
+                (i, random) -> new Object[] { i, i % 2 == 0 ? "Meralco" : "Manila Water", money(random, 10, 40),
+                        START.plusMonths(i % 36) });
+    }
+
+    public static SyntheticResultSet monthlyReports(int rows) {
+        return build(rows, new String[] { "id", "year", "month", "units_id", "monthly_dues", "utility_bills",
+                "expenses", "created_at" },
+                (i, random) -> new Object[] { i, 2023 + i / 600, i % 12 + 1, i % 50 + 1, money(random, 0, 15000),
+                        money(random, 0, 4000), money(random, 0, 5000),
+                        START.plusMonths(i % 36).atTime(9, 0) });
+    }
+
+    public static SyntheticResultSet users(int rows) {
+        return build(rows, new String[] { "id", "username", "password", "created_at" },
+                (i, random) -> new Object[] { i, "admin" + i,
+                        "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5UcGG1cT1G5lHoE3cVY0Y1m",
+                        START.atTime(8, 0).plusHours(i) });
+    }
+
+    public static SyntheticResultSet tickets(int rows) {
+        return build(rows, new String[] { "id", "unit_number", "apartment_name", "name", "phone_number", "email",
+                "messenger_link", "category", "subject", "body", "status", "submitted_at", "status_updated_at",
+                "status_updated_by" },
+                (i, random) -> {
+                    LocalDateTime submitted = START.atTime(8, 0).plusMinutes(37L * i);
+                    String status = STATUSES[i % STATUSES.length];
+                    return new Object[] { i, "U-" + (100 + i % 50), "JJ Apartments " + (i % 3 + 1), "Tenant " + i,
+                            "0917" + (1000000 + i), i % 2 == 0 ? "tenant" + i + "@example.com" : null, null,
+                            CATEGORIES[i % CATEGORIES.length], "Leaking faucet in the kitchen #" + i,
+                            "The kitchen faucet has been leaking since last night. ".repeat(4), status, submitted,
+                            status.equals("Pending") ? null : submitted.plusHours(5),
+                            status.equals("Pending") ? "SYSTEM" : "admin" };
+                });
+    }
+
+    private interface RowFactory {
+        Object[] row(int id, Random random);
+    }
+
+    private static SyntheticResultSet build(int rows, String[] columns, RowFactory factory) {
+        Random random = new Random(42);
+        List<Object[]> data = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            data.add(factory.row(i, random));
+        }
+        return new SyntheticResultSet(columns, data);
+    }
+
+    private static BigDecimal money(Random random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100 + 1), 2);
+    }
+}
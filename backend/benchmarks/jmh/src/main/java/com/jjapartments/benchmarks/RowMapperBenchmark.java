@@ -0,0 +1,131 @@
+package com.jjapartments.benchmarks;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+
+import com.jjapartments.backend.mappers.ExpenseRowMapper;
+import com.jjapartments.backend.mappers.MonthlyReportRowMapper;
+import com.jjapartments.backend.mappers.PaymentRowMapper;
+import com.jjapartments.backend.mappers.RateRowMapper;
+import com.jjapartments.backend.mappers.SubTenantRowMapper;
+import com.jjapartments.backend.mappers.TenantRowMapper;
+import com.jjapartments.backend.mappers.TicketRowMapper;
+import com.jjapartments.backend.mappers.TicketSummaryRowMapper;
+import com.jjapartments.backend.mappers.UnitRowMapper;
+import com.jjapartments.backend.mappers.UserRowMapper;
+import com.jjapartments.backend.mappers.UtilityRowMapper;
+
+// Maps a whole result set per invocation through RowMapperResultSetExtractor, as
+// JdbcTemplate.query does, so per-query setup in a mapper is counted once per list.
+// Mappers are the shared instances the repositories use.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RowMapperBenchmark {
+
+    @Param({ "100", "1000" })
+    private int rows;
+
+    private SyntheticResultSet units;
+    private SyntheticResultSet tenants;
+    private SyntheticResultSet subTenants;
+    private SyntheticResultSet payments;
+    private SyntheticResultSet utilities;
+    private SyntheticResultSet expenses;
+    private SyntheticResultSet rates;
+    private SyntheticResultSet monthlyReports;
+    private SyntheticResultSet users;
+    private SyntheticResultSet tickets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        units = Fixtures.units(rows);
+        tenants = Fixtures.tenants(rows);
+        subTenants = Fixtures.subTenants(rows);
+        payments = Fixtures.payments(rows);
+        utilities = Fixtures.utilities(rows);
+        expenses = Fixtures.expenses(rows);
+        rates = Fixtures.rates(rows);
+        monthlyReports = Fixtures.monthlyReports(rows);
+        users = Fixtures.users(rows);
+        tickets = Fixtures.tickets(rows);
+    }
+
+    private static <T> List<T> map(SyntheticResultSet source, RowMapper<T> mapper) throws SQLException {
+        return new RowMapperResultSetExtractor<>(mapper, source.size()).extractData(source.open());
+    }
+
+    @Benchmark
+    public Object unit() throws SQLException {
+        return map(units, UnitRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object tenant() throws SQLException {
+        return map(tenants, TenantRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object subTenant() throws SQLException {
+        return map(subTenants, SubTenantRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object payment() throws SQLException {
+        return map(payments, PaymentRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object utility() throws SQLException {
+        return map(utilities, UtilityRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object expense() throws SQLException {
+        return map(expenses, ExpenseRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object rate() throws SQLException {
+        return map(rates, RateRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object monthlyReport() throws SQLException {
+        return map(monthlyReports, MonthlyReportRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object user() throws SQLException {
+        return map(users, UserRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object ticket() throws SQLException {
+        return map(tickets, TicketRowMapper.INSTANCE);
+    }
+
+    @Benchmark
+    public Object ticketSummary() throws SQLException {
+        return map(tickets, TicketSummaryRowMapper.INSTANCE);
+    }
+}
@@ -0,0 +1,65 @@
+package com.jjapartments.benchmarks;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jjapartments.backend.mappers.TicketRowMapper;
+import com.jjapartments.backend.mappers.UnitRowMapper;
+import com.jjapartments.backend.models.Ticket;
+import com.jjapartments.backend.models.Unit;
+
+// Writes the list endpoints' payloads to bytes with an ObjectMapper set up the way
+// Spring Boot configures it (java.time support, ISO dates rather than timestamps).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param({ "100", "1000" })
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Unit> units;
+    private List<Ticket> tickets;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        units = new RowMapperResultSetExtractor<>(UnitRowMapper.INSTANCE).extractData(Fixtures.units(rows).open());
+        tickets = new RowMapperResultSetExtractor<>(TicketRowMapper.INSTANCE).extractData(Fixtures.tickets(rows).open());
+    }
+
+    @Benchmark
+    public byte[] units() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(units);
+    }
+
+    @Benchmark
+    public byte[] tickets() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tickets);
+    }
+}
@@ -0,0 +1,154 @@
+package com.jjapartments.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// In-memory, forward-only ResultSet over pre-built rows, so mapper cost can be measured
+// without a driver or a database. Values are held as the driver would decode them
+// (Integer, Float, Boolean, String, LocalDate for DATE, LocalDateTime for DATETIME) and
+// converted by each getter the way Connector/J does, including getString on temporal
+// columns. Label lookups go through a case-insensitive map, as in the driver.
+public final class SyntheticResultSet {
+
+    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final String[] columns;
+    private final Map<String, Integer> indexByLabel = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final List<Object[]> rows;
+
+    public SyntheticResultSet(String[] columns, List<Object[]> rows) {
+        this.columns = columns;
+        this.rows = rows;
+        for (int i = 0; i < columns.length; i++) {
+            indexByLabel.putIfAbsent(columns[i], i + 1);
+        }
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    // a fresh cursor positioned before the first row
+    public ResultSet open() {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                ResultSetMetaData.class.getClassLoader(), new Class<?>[] { ResultSetMetaData.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> columns.length;
+                    case "getColumnLabel", "getColumnName" -> columns[(Integer) args[0] - 1];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        Cursor cursor = new Cursor();
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+                    String name = method.getName();
+                    switch (name) {
+                        case "next":
+                            return ++cursor.row < rows.size();
+                        case "wasNull":
+                            return cursor.wasNull;
+                        case "getMetaData":
+                            return metaData;
+                        case "findColumn":
+                            return findColumn((String) args[0]);
+                        case "close":
+                        case "clearWarnings":
+                            return null;
+                        case "getWarnings":
+                            return null;
+                        case "isClosed":
+                            return false;
+                        default:
+                            break;
+                    }
+                    if (!name.startsWith("get") || args == null || args.length == 0) {
+                        throw new UnsupportedOperationException(name);
+                    }
+                    int index = args[0] instanceof String label ? findColumn(label) : (Integer) args[0];
+                    Object value = rows.get(cursor.row)[index - 1];
+                    cursor.wasNull = value == null;
+                    if (name.equals("getObject") && args.length == 2) {
+                        return convert(value, (Class<?>) args[1]);
+                    }
+                    return convert(value, method.getReturnType());
+                });
+    }
+
+    private static final class Cursor {
+        int row = -1;
+        boolean wasNull;
+    }
+
+    private int findColumn(String label) throws SQLException {
+        Integer index = indexByLabel.get(label);
+        if (index == null) {
+            throw new SQLException("Column '" + label + "' not found.");
+        }
+        return index;
+    }
+
+    private static Object convert(Object value, Class<?> type) throws SQLException {
+        if (type == String.class) {
+            if (value == null) {
+                return null;
+            }
+            return value instanceof LocalDateTime dateTime ? DATETIME.format(dateTime) : value.toString();
+        }
+        if (type == int.class || type == Integer.class) {
+            return value == null ? (type == int.class ? 0 : null) : ((Number) value).intValue();
+        }
+        if (type == long.class || type == Long.class) {
+            return value == null ? (type == long.class ? 0L : null) : ((Number) value).longValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return value == null ? (type == float.class ? 0f : null) : ((Number) value).floatValue();
+        }
+        if (type == double.class || type == Double.class) {
+            return value == null ? (type == double.class ? 0d : null) : ((Number) value).doubleValue();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            if (value == null) {
+                return type == boolean.class ? false : null;
+            }
+            return value instanceof Boolean b ? b : ((Number) value).intValue() != 0;
+        }
+        if (value == null) {
+            return null;
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(value.toString());
+        }
+        if (type == Date.class) {
+            return Date.valueOf(value instanceof LocalDateTime dateTime ? dateTime.toLocalDate() : (LocalDate) value);
+        }
+        if (type == Timestamp.class) {
+            return Timestamp.valueOf(value instanceof LocalDate date ? date.atStartOfDay() : (LocalDateTime) value);
+        }
+        if (type == LocalDate.class) {
+            return value instanceof LocalDateTime dateTime ? dateTime.toLocalDate() : (LocalDate) value;
+        }
+        if (type == Instant.class) {
+            return Timestamp.valueOf(value instanceof LocalDate date ? date.atStartOfDay() : (LocalDateTime) value)
+                    .toInstant();
+        }
+        if (type == LocalDateTime.class) {
+            return value instanceof LocalDate date ? date.atStartOfDay() : (LocalDateTime) value;
+        }
+        if (type == Object.class || type.isInstance(value)) {
+            return value;
+        }
+        throw new SQLException("Cannot convert " + value.getClass().getSimpleName() + " to " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,102 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop HTTP load generator (single-file program, JDK 21+, no dependencies).
+// Each of <concurrency> virtual threads issues GETs back to back, cycling through the
+// given paths, for <seconds>. Throughput and latency percentiles cover 2xx responses only;
+// error statuses (e.g. cheap 503s or 401s) and failed requests are counted separately.
+//
+//   java LoadBench.java <baseUrl> <bearerToken|-> <concurrency> <seconds> <path> [<path> ...]
+//   java LoadBench.java http://localhost:8080 "$TOKEN" 400 60 /api/units /api/tickets
+public class LoadBench {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("usage: java LoadBench.java <baseUrl> <token|-> <concurrency> <seconds> <path>...");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        String token = args[1];
+        int concurrency = Integer.parseInt(args[2]);
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[3])).toNanos();
+        List<String> paths = Arrays.asList(args).subList(4, args.length);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        AtomicLong errorStatuses = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        long deadline = System.nanoTime() + durationNanos;
+
+        List<Future<long[]>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                int offset = w;
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    for (int i = offset; System.nanoTime() < deadline; i++) {
+                        HttpRequest.Builder request = HttpRequest.newBuilder(
+                                URI.create(baseUrl + paths.get(i % paths.size())))
+                                .timeout(Duration.ofSeconds(60))
+                                .GET();
+                        if (!"-".equals(token)) {
+                            request.header("Authorization", "Bearer " + token);
+                        }
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request.build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 != 2) {
+                                errorStatuses.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        long[] all = workers.stream().map(LoadBench::join).flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = durationNanos / 1e9;
+        System.out.printf("ok=%d throughput=%.1f req/s%n", all.length, all.length / seconds);
+        System.out.printf("errors: non-2xx=%d failed=%d%n", errorStatuses.get(), failures.get());
+        System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# -----------------------------------------------------
+# Benchmark: platform-thread Tomcat pool vs virtual threads
+#
+# Starts the packaged backend twice against the same MySQL database, once with
+# spring.threads.virtual.enabled=false and once with =true (which also turns on
+# the DB access semaphore), and drives each with LoadBench.java at the same
+# concurrency. Compare the throughput and p99 lines printed for each mode.
+#
+# Prerequisites: JDK 21, a reachable database (DATABASE_URL/USERNAME/PASSWORD as
+# for normal runs) and an existing user for BENCH_USER/BENCH_PASSWORD.
+#   cd backend && ./mvnw -q package -DskipTests
+#   BENCH_USER=admin BENCH_PASSWORD=secret benchmarks/load/run_thread_mode_benchmark.sh
+#
+# Tunables: CONCURRENCY (default 400, above Tomcat's 200 platform threads),
+# DURATION seconds (default 60), PORT (default 8080), PATHS (space separated),
+# ADMISSION (default false). Admission control is off by default: at this concurrency
+# it would turn most requests into fast 503s and the runs would measure rejections
+# rather than the thread model. Set ADMISSION=true to benchmark it as deployed.
+# -----------------------------------------------------
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+JAR=$(ls target/backend-*.jar | grep -v original | head -n 1)
+PORT=${PORT:-8080}
+CONCURRENCY=${CONCURRENCY:-400}
+DURATION=${DURATION:-60}
+ADMISSION=${ADMISSION:-false}
+PATHS=${PATHS:-"/api/units /api/tenants /api/tickets /api/payments /api/rates/latest/type?type=Meralco"}
+BASE="http://localhost:${PORT}"
+
+for VIRTUAL in false true; do
+    echo "== spring.threads.virtual.enabled=${VIRTUAL}"
+    java -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$VIRTUAL" \
+        --app.admission.enabled="$ADMISSION" --recaptcha.verifier=local > "target/bench-virtual-${VIRTUAL}.log" 2>&1 &
+    APP=$!
+    trap 'kill $APP 2>/dev/null || true' EXIT
+
+    until curl -sf "${BASE}/actuator/health" > /dev/null; do sleep 1; done
+
+    TOKEN=$(curl -sf -H 'Content-Type: application/json' \
+        -d "{\"username\":\"${BENCH_USER}\",\"password\":\"${BENCH_PASSWORD}\"}" \
+        "${BASE}/api/users/login" | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+    # warm up JIT, pools and caches before measuring
+    java benchmarks/load/LoadBench.java "$BASE" "$TOKEN" 50 15 $PATHS > /dev/null
+    java benchmarks/load/LoadBench.java "$BASE" "$TOKEN" "$CONCURRENCY" "$DURATION" $PATHS
+
+    kill "$APP"
+    wait "$APP" 2>/dev/null || true
+done
@@ -0,0 +1,137 @@
+-- -----------------------------------------------------
+-- Benchmark: YEAR()/MONTH() predicates vs half-open date ranges
+--
+-- Seeds 1,000,000 payments, utilities and expenses rows into a scratch schema
+-- (jj_apartments_bench) with the V1 indexes in place, then prints
+-- EXPLAIN ANALYZE for the old and new form of every monthly aggregate.
+--
+-- The scratch tables are copied with CREATE TABLE ... LIKE, so jj_apartments must
+-- already have the V1 indexes (fresh schema or migrations/V1 applied).
+-- Run against a local MySQL 8 server:
+--   mysql -u root -p < src/database/benchmarks/monthly_aggregates_benchmark.sql
+--
+-- Expected: the YEAR()/MONTH() queries show a full index or table scan of all
+-- 1M rows; the range queries show an index range scan touching only the rows
+-- of the requested month (roughly 1/60th of the table for 5 years of data).
+-- -----------------------------------------------------
+
+DROP SCHEMA IF EXISTS jj_apartments_bench;
+CREATE SCHEMA jj_apartments_bench;
+USE jj_apartments_bench;
+
+CREATE TABLE payments LIKE jj_apartments.payments;
+CREATE TABLE utilities LIKE jj_apartments.utilities;
+CREATE TABLE expenses LIKE jj_apartments.expenses;
+
+SET SESSION cte_max_recursion_depth = 1000000;
+
+-- 500 units, dates spread evenly over 2021-01-01 .. 2025-12-31
+INSERT INTO payments (units_id, mode_of_payment, amount, due_date, month_of_start, month_of_end, is_paid, paid_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000
+)
+SELECT
+    1 + (n % 500),
+    'Cash',
+    1000 + (n % 20000),
+    DATE_ADD('2021-01-01', INTERVAL (n % 1826) DAY),
+    DATE_ADD('2021-01-01', INTERVAL (n % 1826) DAY),
+    DATE_ADD('2021-01-01', INTERVAL (n % 1826) + 30 DAY),
+    n % 4 <> 0,
+    IF(n % 4 <> 0, DATE_ADD('2021-01-01', INTERVAL (n % 1826) DAY), NULL)
+FROM seq;
+
+INSERT INTO utilities (type, previous_reading, current_reading, total_meter, total_amount, due_date,
+                       month_of_start, month_of_end, is_paid, paid_at, units_id, rates_id)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000
+)
+SELECT
+    IF(n % 2 = 0, 'Meralco', 'Manila Water'),
+    0,
+    n % 300,
+    n % 300,
+    (n % 300) * 15,
+    DATE_ADD('2021-01-01', INTERVAL (n % 1826) DAY),
+    DATE_ADD('2021-01-01', INTERVAL (n % 1826) DAY),
+    DATE_ADD('2021-01-01', INTERVAL (n % 1826) + 30 DAY),
+    n % 4 <> 0,
+    IF(n % 4 <> 0, DATE_ADD('2021-01-01', INTERVAL (n % 1826) DAY), NULL),
+    1 + (n % 500),
+    NULL
+FROM seq;
+
+INSERT INTO expenses (units_id, amount, mode_of_payment, reason, date)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000
+)
+SELECT
+    1 + (n % 500),
+    100 + (n % 5000),
+    'Cash',
+    'Maintenance',
+    DATE_ADD('2021-01-01', INTERVAL (n % 1826) DAY)
+FROM seq;
+
+ANALYZE TABLE payments, utilities, expenses;
+
+-- -------------------------
+-- Per-unit monthly amount
+-- -------------------------
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM payments
+WHERE units_id = 42 AND is_paid = 1 AND YEAR(paid_at) = 2024 AND MONTH(paid_at) = 6;
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM payments
+WHERE units_id = 42 AND is_paid = 1 AND paid_at >= '2024-06-01' AND paid_at < '2024-07-01';
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(total_amount), 0) FROM utilities
+WHERE units_id = 42 AND is_paid = 1 AND YEAR(paid_at) = 2024 AND MONTH(paid_at) = 6;
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(total_amount), 0) FROM utilities
+WHERE units_id = 42 AND is_paid = 1 AND paid_at >= '2024-06-01' AND paid_at < '2024-07-01';
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM expenses
+WHERE units_id = 42 AND YEAR(date) = 2024 AND MONTH(date) = 6;
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM expenses
+WHERE units_id = 42 AND date >= '2024-06-01' AND date < '2024-07-01';
+
+-- -------------------------
+-- Whole-month totals (sumPayments / sumExpenses)
+-- -------------------------
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM payments
+WHERE is_paid = 1 AND YEAR(paid_at) = 2024 AND MONTH(paid_at) = 6;
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM payments
+WHERE is_paid = 1 AND paid_at >= '2024-06-01' AND paid_at < '2024-07-01';
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM expenses
+WHERE YEAR(date) = 2024 AND MONTH(date) = 6;
+
+EXPLAIN ANALYZE
+SELECT COALESCE(SUM(amount), 0) FROM expenses
+WHERE date >= '2024-06-01' AND date < '2024-07-01';
+
+-- -------------------------
+-- Grouped pass used by monthly report generation
+-- -------------------------
+EXPLAIN ANALYZE
+SELECT units_id, SUM(amount) FROM payments
+WHERE is_paid = 1 AND YEAR(paid_at) = 2024 AND MONTH(paid_at) = 6
+GROUP BY units_id;
+
+EXPLAIN ANALYZE
+SELECT units_id, SUM(amount) FROM payments
+WHERE is_paid = 1 AND paid_at >= '2024-06-01' AND paid_at < '2024-07-01'
+GROUP BY units_id;
+
+DROP SCHEMA jj_apartments_bench;
@@ -26,6 +26,7 @@ CREATE TABLE IF NOT EXISTS `units` (
   `price` DECIMAL(10, 2) NOT NULL,
   `num_occupants` INT NOT NULL,
   `active_tenant_id` INT NULL,
+  `curr_occupants` INT NOT NULL DEFAULT 0,
   PRIMARY KEY (`id`)
 ) ENGINE = InnoDB;
 
@@ -43,8 +44,11 @@ CREATE TABLE IF NOT EXISTS `tenants` (
   `units_id` INT NOT NULL,
   `move_in_date` DATE NULL,
   `move_out_date` DATE NULL,
+  `is_moved_out` TINYINT AS (`move_out_date` IS NOT NULL) STORED,
+  `sort_date` DATE AS (COALESCE(`move_out_date`, `move_in_date`, DATE '1000-01-01')) STORED,
   PRIMARY KEY (`id`),
   INDEX `fk_tenants_units1_idx` (`units_id` ASC) VISIBLE,
+  INDEX `idx_tenants_listing` (`is_moved_out` ASC, `sort_date` DESC, `id` DESC),
   CONSTRAINT `fk_tenants_units1`
     FOREIGN KEY (`units_id`)
     REFERENCES `units` (`id`)
@@ -94,6 +98,10 @@ CREATE TABLE IF NOT EXISTS payments (
   paid_at DATE NULL DEFAULT NULL,
   PRIMARY KEY (id),
   INDEX units_id_idx (units_id ASC),
+  INDEX idx_payments_paid_at_unit (is_paid, paid_at, units_id, amount),
+  INDEX idx_payments_period (month_of_start),
+  INDEX idx_payments_unit_period (units_id, month_of_start),
+  INDEX idx_payments_overdue (is_paid, due_date),
   CONSTRAINT units_id FOREIGN KEY (units_id) REFERENCES units (id) ON DELETE SET NULL
 ) ENGINE = InnoDB;
 
@@ -128,6 +136,10 @@ CREATE TABLE IF NOT EXISTS utilities (
   PRIMARY KEY (id),
   INDEX fk_utilities_units1_idx (units_id ASC),
   INDEX fk_utilities_rates1_idx (rates_id ASC),
+  INDEX idx_utilities_paid_at_unit (is_paid, paid_at, units_id, total_amount),
+  INDEX idx_utilities_period (month_of_start),
+  INDEX idx_utilities_unit_period (units_id, month_of_start),
+  INDEX idx_utilities_overdue (is_paid, due_date),
   CONSTRAINT fk_utilities_units1 FOREIGN KEY (units_id) REFERENCES units (id) ON DELETE SET NULL,
   CONSTRAINT fk_utilities_rates1 FOREIGN KEY (rates_id) REFERENCES rates (id) ON DELETE SET NULL
 ) ENGINE = InnoDB;
@@ -144,12 +156,48 @@ CREATE TABLE IF NOT EXISTS expenses (
   date DATE NOT NULL,
   PRIMARY KEY (id),
   INDEX `fk_expenses_units1_idx` (`units_id` ASC) VISIBLE,
+  INDEX `idx_expenses_unit_period` (`units_id`, `date`),
+  INDEX `idx_expenses_date_unit` (`date`, `units_id`, `amount`),
   CONSTRAINT `fk_expenses_units1`
     FOREIGN KEY (`units_id`)
     REFERENCES `units` (`id`)
     ON DELETE SET NULL
 ) ENGINE = InnoDB;
 
+-- -------------------------
+-- Table: unit_monthly_ledger
+-- running per-unit monthly totals, maintained by the payment, utility and expense repositories
+-- -------------------------
+CREATE TABLE IF NOT EXISTS unit_monthly_ledger (
+  year INT NOT NULL,
+  month INT NOT NULL,
+  units_id INT NOT NULL,
+  payments DECIMAL(12,2) NOT NULL DEFAULT 0,
+  utilities DECIMAL(12,2) NOT NULL DEFAULT 0,
+  expenses DECIMAL(12,2) NOT NULL DEFAULT 0,
+  PRIMARY KEY (year, month, units_id),
+  INDEX idx_ledger_unit (units_id, year, month),
+  CONSTRAINT fk_ledger_units FOREIGN KEY (units_id) REFERENCES units (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- -------------------------
+-- Table: overdue_items
+-- unpaid payments and utilities past their due date, rebuilt by the overdue scanner
+-- -------------------------
+CREATE TABLE IF NOT EXISTS overdue_items (
+  source VARCHAR(10) NOT NULL,
+  source_id INT NOT NULL,
+  units_id INT NULL,
+  amount DECIMAL(10,2) NOT NULL,
+  due_date DATE NOT NULL,
+  detected_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_seen_at TIMESTAMP(6) NOT NULL,
+  PRIMARY KEY (source, source_id),
+  INDEX idx_overdue_due (due_date),
+  INDEX idx_overdue_source_due (source, due_date),
+  INDEX idx_overdue_unit_due (units_id, due_date)
+) ENGINE = InnoDB;
+
 -- -------------------------
 -- Table: monthly_reports
 -- -------------------------
@@ -198,7 +246,11 @@ CREATE TABLE IF NOT EXISTS tickets (
     submitted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     status_updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     status_updated_by VARCHAR(45) NOT NULL,
-    PRIMARY KEY (id)
+    PRIMARY KEY (id),
+    INDEX idx_tickets_status_submitted (status, submitted_at),
+    INDEX idx_tickets_category_submitted (category, submitted_at),
+    INDEX idx_tickets_submitted (submitted_at),
+    FULLTEXT INDEX ft_tickets_search (subject, body, name, apartment_name, unit_number)
 ) ENGINE = InnoDB;
 
 -- Restore original SQL modes and checks
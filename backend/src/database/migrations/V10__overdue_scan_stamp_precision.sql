@@ -0,0 +1,11 @@
+-- -----------------------------------------------------
+-- V10: microsecond scan stamps on overdue_items
+--
+-- Each scan stamps the rows it still finds overdue with last_seen_at and
+-- deletes the rest (last_seen_at <> this scan). With whole-second precision
+-- two scans in the same second shared a stamp, so an item paid between them
+-- was kept by the second scan. Scans run one at a time per instance and take
+-- well over a microsecond, so TIMESTAMP(6) gives every scan its own stamp.
+-- -----------------------------------------------------
+
+ALTER TABLE overdue_items MODIFY last_seen_at TIMESTAMP(6) NOT NULL;
@@ -0,0 +1,22 @@
+-- -----------------------------------------------------
+-- V1: composite indexes for the monthly aggregate queries
+--
+-- Apply to databases created from jj_apartments.sql before this version.
+-- Migrations are applied in version order and only once.
+--
+-- The monthly sums filter with half-open ranges
+-- (paid_at >= first-of-month AND paid_at < first-of-next-month), which these
+-- indexes serve directly. Each one also carries the summed column, so the
+-- aggregates are answered from the index without touching the rows.
+--   *_unit_*  : per-unit lookups (getMonthlyAmountByUnitId / getMonthlyAmountById)
+--   *_unit    : whole-month grouped pass (monthly report generation)
+-- -----------------------------------------------------
+
+CREATE INDEX idx_payments_unit_paid_at ON payments (units_id, is_paid, paid_at, amount);
+CREATE INDEX idx_payments_paid_at_unit ON payments (is_paid, paid_at, units_id, amount);
+
+CREATE INDEX idx_utilities_unit_paid_at ON utilities (units_id, is_paid, paid_at, total_amount);
+CREATE INDEX idx_utilities_paid_at_unit ON utilities (is_paid, paid_at, units_id, total_amount);
+
+CREATE INDEX idx_expenses_unit_date ON expenses (units_id, date, amount);
+CREATE INDEX idx_expenses_date_unit ON expenses (date, units_id, amount);
@@ -0,0 +1,14 @@
+-- -----------------------------------------------------
+-- V2: persisted occupancy counter on units
+--
+-- curr_occupants = 0 for a vacant unit, otherwise 1 (the active tenant) plus
+-- that tenant's sub-tenants. TenantRepository and SubTenantRepository keep it
+-- current on every write, so unit reads no longer need a correlated
+-- COUNT(*) over sub_tenants per row.
+-- -----------------------------------------------------
+
+ALTER TABLE units ADD COLUMN curr_occupants INT NOT NULL DEFAULT 0;
+
+UPDATE units u
+SET u.curr_occupants = 1 + (SELECT COUNT(*) FROM sub_tenants st WHERE st.main_tenant_id = u.active_tenant_id)
+WHERE u.active_tenant_id IS NOT NULL;
@@ -0,0 +1,15 @@
+-- -----------------------------------------------------
+-- V3: indexes for the streaming ledger exports
+--
+-- Payment and utility exports filter and order by month_of_start (then id),
+-- optionally for one unit. InnoDB appends the primary key to every secondary
+-- index, so these return rows already in (month_of_start, id) order and the
+-- export cursor can stream without a filesort. Expenses are served by
+-- idx_expenses_date_unit / idx_expenses_unit_date from V1.
+-- -----------------------------------------------------
+
+CREATE INDEX idx_payments_period ON payments (month_of_start);
+CREATE INDEX idx_payments_unit_period ON payments (units_id, month_of_start);
+
+CREATE INDEX idx_utilities_period ON utilities (month_of_start);
+CREATE INDEX idx_utilities_unit_period ON utilities (units_id, month_of_start);
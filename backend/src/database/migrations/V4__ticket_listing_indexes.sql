@@ -0,0 +1,16 @@
+-- -----------------------------------------------------
+-- V4: indexes for the paginated ticket listing
+--
+-- GET /api/tickets/page orders by (submitted_at DESC, id DESC) and seeks past
+-- the cursor with (submitted_at < ? OR (submitted_at = ? AND id < ?)).
+-- InnoDB appends id to each secondary index, so every variant below is an
+-- ordered range scan that stops after one page:
+--   status filter   -> idx_tickets_status_submitted
+--   category filter -> idx_tickets_category_submitted
+--   no filter       -> idx_tickets_submitted
+-- Apartment and date filters are applied on top of whichever index is chosen.
+-- -----------------------------------------------------
+
+CREATE INDEX idx_tickets_status_submitted ON tickets (status, submitted_at);
+CREATE INDEX idx_tickets_category_submitted ON tickets (category, submitted_at);
+CREATE INDEX idx_tickets_submitted ON tickets (submitted_at);
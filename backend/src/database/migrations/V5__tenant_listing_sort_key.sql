@@ -0,0 +1,19 @@
+-- -----------------------------------------------------
+-- V5: persisted sort key for tenant listings
+--
+-- The tenant list used to ORDER BY a CASE over move_out_date/move_in_date,
+-- which forced a filesort of the whole table on every request. These stored
+-- generated columns hold the same key, and MySQL keeps them in step with
+-- move_in_date/move_out_date on every write:
+--   is_moved_out : 0 for current tenants, 1 once move_out_date is set
+--   sort_date    : move-out date for former tenants, otherwise move-in date
+--                  (1000-01-01 when neither is known, so it sorts last)
+-- One index in (is_moved_out ASC, sort_date DESC, id DESC) order serves the
+-- full list, the moved-in list and the moved-out list, including keyset
+-- seeks past a cursor.
+-- -----------------------------------------------------
+
+ALTER TABLE tenants
+  ADD COLUMN is_moved_out TINYINT AS (move_out_date IS NOT NULL) STORED,
+  ADD COLUMN sort_date DATE AS (COALESCE(move_out_date, move_in_date, DATE '1000-01-01')) STORED,
+  ADD INDEX idx_tenants_listing (is_moved_out ASC, sort_date DESC, id DESC);
@@ -0,0 +1,40 @@
+-- -----------------------------------------------------
+-- V6: per-unit monthly ledger totals
+--
+-- One row per (year, month, unit) holding what the monthly report needs:
+--   payments  : paid dues, by the month of paid_at
+--   utilities : paid utility bills (total_amount), by the month of paid_at
+--   expenses  : expenses, by the month of date
+-- PaymentRepository, UtilityRepository and ExpenseRepository post every add,
+-- update and delete here in the same transaction (taking the old amount out
+-- of its month and adding the new one), so report generation reads one row
+-- per unit instead of aggregating the three source tables.
+-- Rows without a unit are not tracked, matching the report's join on units.
+-- -----------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS unit_monthly_ledger (
+  year INT NOT NULL,
+  month INT NOT NULL,
+  units_id INT NOT NULL,
+  payments DECIMAL(12,2) NOT NULL DEFAULT 0,
+  utilities DECIMAL(12,2) NOT NULL DEFAULT 0,
+  expenses DECIMAL(12,2) NOT NULL DEFAULT 0,
+  PRIMARY KEY (year, month, units_id),
+  INDEX idx_ledger_unit (units_id, year, month),
+  CONSTRAINT fk_ledger_units FOREIGN KEY (units_id) REFERENCES units (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- backfill from the rows already in place
+INSERT INTO unit_monthly_ledger (year, month, units_id, payments, utilities, expenses)
+SELECT year, month, units_id, SUM(payments), SUM(utilities), SUM(expenses)
+FROM (
+  SELECT YEAR(paid_at) AS year, MONTH(paid_at) AS month, units_id, amount AS payments, 0 AS utilities, 0 AS expenses
+  FROM payments WHERE is_paid = 1 AND paid_at IS NOT NULL AND units_id IS NOT NULL
+  UNION ALL
+  SELECT YEAR(paid_at), MONTH(paid_at), units_id, 0, total_amount, 0
+  FROM utilities WHERE is_paid = 1 AND paid_at IS NOT NULL AND units_id IS NOT NULL
+  UNION ALL
+  SELECT YEAR(date), MONTH(date), units_id, 0, 0, amount
+  FROM expenses WHERE units_id IS NOT NULL
+) entries
+GROUP BY year, month, units_id;
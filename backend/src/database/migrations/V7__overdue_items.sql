@@ -0,0 +1,30 @@
+-- -----------------------------------------------------
+-- V7: overdue scanner
+--
+-- idx_payments_overdue / idx_utilities_overdue let the scheduled scan find
+-- unpaid rows past their due date with a range read on (is_paid, due_date)
+-- instead of scanning either ledger.
+--
+-- overdue_items is the scan's output, one row per overdue payment or utility
+-- bill. OverdueScanner rebuilds it on a fixed delay: rows still overdue are
+-- upserted and stamped with last_seen_at, rows that were not stamped are
+-- removed. Aging buckets (1-30, 31-60, 61-90, 90+ days) are due_date ranges
+-- relative to the current day, so the listing stays correct between scans.
+-- -----------------------------------------------------
+
+ALTER TABLE payments ADD INDEX idx_payments_overdue (is_paid, due_date);
+ALTER TABLE utilities ADD INDEX idx_utilities_overdue (is_paid, due_date);
+
+CREATE TABLE IF NOT EXISTS overdue_items (
+  source VARCHAR(10) NOT NULL,
+  source_id INT NOT NULL,
+  units_id INT NULL,
+  amount DECIMAL(10,2) NOT NULL,
+  due_date DATE NOT NULL,
+  detected_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_seen_at TIMESTAMP NOT NULL,
+  PRIMARY KEY (source, source_id),
+  INDEX idx_overdue_due (due_date),
+  INDEX idx_overdue_source_due (source, due_date),
+  INDEX idx_overdue_unit_due (units_id, due_date)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- -----------------------------------------------------
+-- V8: full-text search over tickets
+--
+-- Backs GET /api/tickets/search. TicketRepository.search runs
+-- MATCH ... AGAINST in boolean mode over these five columns, ranks by the
+-- returned relevance and pages on (score, id). InnoDB keeps the index
+-- current on every insert, so new tickets are searchable once committed.
+-- Words shorter than innodb_ft_min_token_size (default 3) and stopwords
+-- are not indexed.
+-- -----------------------------------------------------
+
+ALTER TABLE tickets
+  ADD FULLTEXT INDEX ft_tickets_search (subject, body, name, apartment_name, unit_number);
@@ -0,0 +1,22 @@
+-- -----------------------------------------------------
+-- V9: drop the per-unit monthly sum indexes from V1
+--
+-- Since V6 the per-unit monthly amounts are read from unit_monthly_ledger,
+-- so nothing filters payments or utilities on (units_id, is_paid, paid_at)
+-- any more. The whole-month *_paid_at_unit indexes stay for the monthly
+-- report totals, and units_id_idx / fk_utilities_units1_idx still back the
+-- foreign keys.
+--
+-- idx_expenses_unit_date was also serving the per-unit expense export
+-- (units_id = ? AND date range ORDER BY date, id). Its trailing amount column
+-- put rows in (date, amount, id) order, which still needed a filesort; it is
+-- replaced by (units_id, date), which returns them in export order like the
+-- payment and utility *_unit_period indexes from V3.
+-- -----------------------------------------------------
+
+DROP INDEX idx_payments_unit_paid_at ON payments;
+
+DROP INDEX idx_utilities_unit_paid_at ON utilities;
+
+CREATE INDEX idx_expenses_unit_period ON expenses (units_id, date);
+DROP INDEX idx_expenses_unit_date ON expenses;
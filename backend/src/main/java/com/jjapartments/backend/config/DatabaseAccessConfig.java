@@ -0,0 +1,64 @@
+package com.jjapartments.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.jjapartments.backend.util.BoundedDataSource;
+import com.jjapartments.backend.util.ConnectionHoldTimingDataSource;
+import com.jjapartments.backend.util.SlowQueryLog;
+import com.jjapartments.backend.util.StatementTimingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Wraps the pooled DataSource, innermost first:
+//   StatementTimingDataSource       when app.db.slow-query.enabled (default true), feeds SlowQueryLog
+//   ConnectionHoldTimingDataSource  when app.db.hold-timing.enabled (default true)
+//   BoundedDataSource               when app.db.access-limit.enabled (on by default whenever
+//                                   spring.threads.virtual.enabled is); permits default to the
+//                                   Hikari pool size so the limit and the pool stay in step
+// Hold timing sits inside the semaphore so it measures use of a real pooled connection only.
+@Configuration
+public class DatabaseAccessConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceWrappingPostProcessor(Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        boolean statementTiming = environment.getProperty("app.db.slow-query.enabled", Boolean.class, true);
+        boolean holdTiming = environment.getProperty("app.db.hold-timing.enabled", Boolean.class, true);
+        long warnThresholdMs = environment.getProperty("app.db.hold-timing.warn-threshold-ms", Long.class, 2000L);
+        boolean accessLimit = environment.getProperty("app.db.access-limit.enabled", Boolean.class, false);
+        int permits = environment.getProperty("app.db.access-limit.permits", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long acquireTimeoutMs = environment.getProperty("app.db.access-limit.acquire-timeout-ms", Long.class,
+                30000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                        || bean instanceof BoundedDataSource
+                        || bean instanceof StatementTimingDataSource
+                        || bean instanceof ConnectionHoldTimingDataSource) {
+                    return bean;
+                }
+                DataSource wrapped = dataSource;
+                if (statementTiming) {
+                    wrapped = new StatementTimingDataSource(wrapped, slowQueryLog::getIfAvailable);
+                }
+                if (holdTiming) {
+                    wrapped = new ConnectionHoldTimingDataSource(wrapped, meterRegistry::getIfAvailable,
+                            warnThresholdMs);
+                }
+                if (accessLimit) {
+                    wrapped = new BoundedDataSource(wrapped, permits, acquireTimeoutMs);
+                }
+                return wrapped;
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.jjapartments.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (currently the overdue scanner); app.scheduling.enabled=false turns them off,
+// e.g. on extra instances that share a database with one that already runs them
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.jjapartments.backend.config;
 
 import com.jjapartments.backend.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -36,6 +37,9 @@ public class SecurityConfig {
                         // Allow OPTIONS (CORS preflight)
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // Completion of streamed responses (exports); the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers("/api/users/login").permitAll()
                         .requestMatchers("/api/users/add").permitAll()
@@ -45,6 +49,9 @@ public class SecurityConfig {
                         // All other /api/** endpoints require JWT
                         .requestMatchers("/api/**").authenticated()
 
+                        // Metrics and other actuator endpoints besides health require JWT too
+                        .requestMatchers("/actuator/**").authenticated()
+
                         // Everything else is public
                         .anyRequest().permitAll())
                 // Add our JWT filter before the default auth filter
@@ -0,0 +1,22 @@
+package com.jjapartments.backend.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.ResponseEntity;
+
+import com.jjapartments.backend.dto.DashboardSummary;
+import com.jjapartments.backend.util.DashboardSummaryCache;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardSummaryCache dashboardSummaryCache;
+
+    // Occupancy, unpaid dues, overdue utilities, pending tickets and this month's totals in one payload
+    @GetMapping
+    public ResponseEntity<DashboardSummary> getSummary() {
+        return ResponseEntity.ok(dashboardSummaryCache.get());
+    }
+}
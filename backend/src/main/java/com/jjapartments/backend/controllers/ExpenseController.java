@@ -1,16 +1,26 @@
 package com.jjapartments.backend.controllers;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.jjapartments.backend.models.Expense;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.repository.ExpenseRepository;
+import com.jjapartments.backend.dto.ImportResult;
+import com.jjapartments.backend.util.BulkImporter;
+import com.jjapartments.backend.util.LedgerExporter;
+import com.jjapartments.backend.util.LedgerFilter;
 
 @RestController
 @RequestMapping("/api/expenses")
@@ -18,6 +28,10 @@ public class ExpenseController {
 
     @Autowired
     private ExpenseRepository expenseRepository;
+    @Autowired
+    private BulkImporter bulkImporter;
+    @Autowired
+    private LedgerExporter ledgerExporter;
 
     // Create
     @PostMapping("/add")
@@ -30,6 +44,36 @@ public class ExpenseController {
         }
     }
 
+    // Bulk import (CSV with header row, or a JSON array)
+    @PostMapping("/import")
+    public ResponseEntity<?> importExpenses(HttpServletRequest request,
+            @RequestParam(value = "chunkSize", required = false) Integer chunkSize) {
+        try {
+            ImportResult result = bulkImporter.importRows(request.getInputStream(), request.getContentType(),
+                    Expense.class, expenseRepository.importValidator(), expenseRepository::addAll, chunkSize);
+            return ResponseEntity.ok(result);
+        } catch (ErrorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Could not read import file: " + e.getMessage()));
+        }
+    }
+
+    // Export as CSV or NDJSON, optionally filtered by unit and an inclusive expense date range
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(@RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "unitId", required = false) Integer unitId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LedgerFilter filter = LedgerFilter.of(unitId, from, to);
+            return ledgerExporter.export("expenses", format, Expense.class,
+                    action -> expenseRepository.streamLedger(filter, action));
+        } catch (ErrorException e) {
+            return ledgerExporter.error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     // Get all
     @GetMapping
     public ResponseEntity<List<Expense>> getAllExpenses() {
@@ -61,9 +105,13 @@ public class ExpenseController {
 
     // Find by year and month
     @GetMapping("/{id}/{year}/{month}")
-    public ResponseEntity<Float> findByYearAndMonth(@PathVariable int id, @PathVariable int year,
+    public ResponseEntity<?> findByYearAndMonth(@PathVariable int id, @PathVariable int year,
             @PathVariable int month) {
-        float amount = expenseRepository.getMonthlyAmountById(id, year, month);
-        return ResponseEntity.ok(amount);
+        try {
+            float amount = expenseRepository.getMonthlyAmountById(id, year, month);
+            return ResponseEntity.ok(amount);
+        } catch (ErrorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
     }
 }
\ No newline at end of file
@@ -10,12 +10,7 @@ import org.springframework.dao.DuplicateKeyException;
 
 import com.jjapartments.backend.models.MonthlyReport;
 import com.jjapartments.backend.repository.MonthlyReportRepository;
-import com.jjapartments.backend.repository.PaymentRepository;
-import com.jjapartments.backend.repository.UnitRepository;
-import com.jjapartments.backend.repository.UtilityRepository;
-import com.jjapartments.backend.repository.ExpenseRepository;
 import com.jjapartments.backend.exception.ErrorException;
-import com.jjapartments.backend.models.Unit;
 
 @RestController
 @RequestMapping("/api/monthlyreports")
@@ -23,39 +18,26 @@ public class MonthlyReportController {
 
     @Autowired
     private MonthlyReportRepository monthlyReportRepository;
-    @Autowired
-    private UnitRepository unitRepository;
-    @Autowired
-    private PaymentRepository paymentRepository;
-    @Autowired
-    private ExpenseRepository expenseRepository;
-    @Autowired
-    private UtilityRepository utilityRepository;
 
     @PostMapping("/add")
     public ResponseEntity<String> addMonthlyReport(
             @RequestParam("year") int year,
-            @RequestParam("month") int month) {
+            @RequestParam("month") int month,
+            @RequestParam(value = "mode", defaultValue = "create") String mode) {
+        MonthlyReportRepository.Mode generationMode;
         try {
-            // float totalEarnings = monthlyReportRepository.sumPayments(year, month);
-            // float totalExpenses = monthlyReportRepository.sumExpenses(year, month);
-            // float netIncome = totalEarnings - totalExpenses;
-            List<Unit> units = unitRepository.findAll();
-            for (int i = 0; i < units.size(); i++) {
-                int unitId = units.get(i).getId();
-                float monthlyDues = paymentRepository.getMonthlyAmountByUnitId(unitId, year, month);
-                float utilityBills = utilityRepository.getMonthlyAmountByUnitId(unitId, year, month);
-                float expenses = expenseRepository.getMonthlyAmountById(unitId, year, month);
-                MonthlyReport report = new MonthlyReport();
-                report.setYear(year);
-                report.setMonth(month);
-                report.setUnitId(unitId);
-                report.setMonthlyDues(monthlyDues);
-                report.setUtilityBills(utilityBills);
-                report.setExpenses(expenses);
-                monthlyReportRepository.add(report);
-            }
+            generationMode = MonthlyReportRepository.Mode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Invalid mode. Must be one of: create, resume, regenerate");
+        }
 
+        try {
+            monthlyReportRepository.generate(year, month, generationMode);
+
+            if (generationMode == MonthlyReportRepository.Mode.REGENERATE) {
+                return ResponseEntity.ok("Monthly report successfully regenerated for " + month + "/" + year);
+            }
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body("Monthly report successfully created for " + month + "/" + year);
         } catch (DuplicateKeyException e) { // if report already exists with same month and year
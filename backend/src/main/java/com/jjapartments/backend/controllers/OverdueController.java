@@ -0,0 +1,85 @@
+package com.jjapartments.backend.controllers;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.jjapartments.backend.dto.CursorPage;
+import com.jjapartments.backend.dto.OverdueSummary;
+import com.jjapartments.backend.exception.ErrorException;
+import com.jjapartments.backend.models.AgingBucket;
+import com.jjapartments.backend.models.OverdueItem;
+import com.jjapartments.backend.repository.OverdueRepository;
+import com.jjapartments.backend.util.OverdueScanner;
+
+@RestController
+@RequestMapping("/api/overdue")
+public class OverdueController {
+    private static final Logger logger = LoggerFactory.getLogger(OverdueController.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private OverdueRepository overdueRepository;
+    @Autowired
+    private OverdueScanner overdueScanner;
+
+    // Overdue payments and utilities, oldest due date first; pass nextCursor back as ?cursor=.
+    // Optional filters: source (payment or utility), bucket (1-30, 31-60, 61-90, 90+) and unitId
+    @GetMapping
+    public ResponseEntity<?> getOverdueItems(@RequestParam(required = false) String source,
+            @RequestParam(required = false) String bucket,
+            @RequestParam(required = false) Integer unitId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        try {
+            AgingBucket agingBucket = bucket == null || bucket.isBlank() ? null : AgingBucket.fromLabel(bucket.trim());
+            String after = cursor == null || cursor.isBlank() ? null : cursor.trim();
+            CursorPage<OverdueItem> page = overdueRepository.findPage(blankToNull(source), agingBucket, unitId, after,
+                    limit, LocalDate.now());
+            return ResponseEntity.ok(page);
+        } catch (ErrorException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Count and amount per aging bucket, optionally for one source
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary(@RequestParam(required = false) String source) {
+        try {
+            OverdueSummary summary = overdueRepository.summarize(blankToNull(source), LocalDate.now());
+            return ResponseEntity.ok(summary);
+        } catch (ErrorException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Rescan now instead of waiting for the next scheduled run
+    @PostMapping("/scan")
+    public ResponseEntity<?> scan() {
+        try {
+            int count = overdueScanner.scan();
+            return ResponseEntity.status(HttpStatus.OK).body(Map.of("overdueItems", count));
+        } catch (DataAccessException | TransactionException e) {
+            // the scan rolled back, so the previous overdue list is still in place
+            logger.warn("Overdue scan failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Overdue scan failed, try again later"));
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase();
+    }
+}
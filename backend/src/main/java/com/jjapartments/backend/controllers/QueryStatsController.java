@@ -0,0 +1,58 @@
+package com.jjapartments.backend.controllers;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.jjapartments.backend.dto.QueryFingerprint;
+import com.jjapartments.backend.util.SlowQueryLog;
+
+@RestController
+@RequestMapping("/api/admin/queries")
+public class QueryStatsController {
+
+    private static final int MAX_LIMIT = 500;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    // Aggregated statement fingerprints, heaviest first (sort = total, count, max, avg or slow)
+    @GetMapping
+    public ResponseEntity<?> getQueryStats(@RequestParam(value = "sort", defaultValue = "total") String sort,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        Comparator<QueryFingerprint> order = switch (sort.toLowerCase()) {
+            case "total" -> Comparator.comparingDouble(QueryFingerprint::getTotalMs);
+            case "count" -> Comparator.comparingLong(QueryFingerprint::getCount);
+            case "max" -> Comparator.comparingDouble(QueryFingerprint::getMaxMs);
+            case "avg" -> Comparator.comparingDouble(QueryFingerprint::getAvgMs);
+            case "slow" -> Comparator.comparingLong(QueryFingerprint::getSlowCount);
+            default -> null;
+        };
+        if (order == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Invalid sort. Must be one of: total, count, max, avg, slow"));
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "limit must be between 1 and " + MAX_LIMIT + "."));
+        }
+
+        List<QueryFingerprint> queries = slowQueryLog.snapshot().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+        return ResponseEntity.ok(Map.of("queries", queries, "dropped", slowQueryLog.getDropped()));
+    }
+
+    // Start a fresh measurement window
+    @DeleteMapping
+    public ResponseEntity<String> resetQueryStats() {
+        slowQueryLog.reset();
+        return ResponseEntity.ok("Query statistics cleared.");
+    }
+}
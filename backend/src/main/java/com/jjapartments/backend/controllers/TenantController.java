@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.jjapartments.backend.dto.CursorPage;
 import com.jjapartments.backend.dto.TenantWithUnitDTO;
 import com.jjapartments.backend.dto.UnitTenantsDTO;
 import com.jjapartments.backend.exception.ErrorException;
@@ -23,6 +24,9 @@ import com.jjapartments.backend.repository.UnitRepository;
 @RestController
 @RequestMapping("/api/tenants")
 public class TenantController {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private TenantRepository tenantRepository;
     @Autowired
@@ -91,6 +95,42 @@ public class TenantController {
         }
     }
 
+    // Paginated variants of the listings above; pass nextCursor back as ?cursor=
+    @GetMapping("/page")
+    public ResponseEntity<?> getTenantPage(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        return tenantPage(null, cursor, limit);
+    }
+
+    @GetMapping("/moved-in/page")
+    public ResponseEntity<?> getMovedInTenantPage(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        return tenantPage(false, cursor, limit);
+    }
+
+    @GetMapping("/moved-out/page")
+    public ResponseEntity<?> getMovedOutTenantPage(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        return tenantPage(true, cursor, limit);
+    }
+
+    private ResponseEntity<?> tenantPage(Boolean movedOut, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        try {
+            String after = cursor == null || cursor.isBlank() ? null : cursor.trim();
+            CursorPage<Tenant> page = tenantRepository.findPage(movedOut, after, limit);
+            return ResponseEntity.ok(page);
+        } catch (ErrorException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "An internal server error occurred while fetching tenants."));
+        }
+    }
+
     // Delete
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteTenant(@PathVariable int id) {
@@ -1,28 +1,39 @@
 package com.jjapartments.backend.controllers;
 
+import com.jjapartments.backend.dto.CursorPage;
 import com.jjapartments.backend.dto.TicketStatusUpdateRequest;
 import com.jjapartments.backend.dto.TicketSubmitRequest;
+import com.jjapartments.backend.dto.TicketSummary;
 import com.jjapartments.backend.exception.ErrorException;
+import com.jjapartments.backend.models.Category;
 import com.jjapartments.backend.models.Status;
 import com.jjapartments.backend.models.Ticket;
 import com.jjapartments.backend.repository.TicketRepository;
+import com.jjapartments.backend.util.KeysetCursor;
 import com.jjapartments.backend.util.RecaptchaService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/tickets")
 public class TicketController {
 
     private static final Logger logger = LoggerFactory.getLogger(TicketController.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LENGTH = 200;
 
     @Autowired
     private TicketRepository ticketRepository;
@@ -30,48 +41,54 @@ public class TicketController {
     @Autowired
     private RecaptchaService recaptchaService;
 
+    // The ticket is checked first so a rejected payload doesn't use up the single-use token;
+    // reCAPTCHA is then verified off the request thread and the ticket saved once it answers
     @PostMapping("/submit")
-    public ResponseEntity<?> submit(@RequestBody TicketSubmitRequest payload) {
-        try {
-            if (payload == null) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(Map.of("error", "Request body is required"));
-            }
-
-            String recaptchaToken = payload.getRecaptchaToken();
+    public CompletableFuture<ResponseEntity<?>> submit(@RequestBody TicketSubmitRequest payload) {
+        if (payload == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Request body is required")));
+        }
 
-            if (!recaptchaService.verify(recaptchaToken)) {
-                logger.warn("Recaptcha verification failed");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(Map.of("error", "reCAPTCHA verification failed"));
-            }
+        Ticket ticket = payload.getTicket();
+        if (ticket == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Ticket payload is required")));
+        }
 
-            Ticket ticket = payload.getTicket();
-            if (ticket == null) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(Map.of("error", "Ticket payload is required"));
-            }
+        // Validation for required fields
+        if (isBlank(ticket.getUnitNumber()) ||
+                isBlank(ticket.getApartmentName()) ||
+                isBlank(ticket.getName()) ||
+                isBlank(ticket.getPhoneNumber()) ||
+                ticket.getCategory() == null ||
+                isBlank(ticket.getSubject()) ||
+                isBlank(ticket.getBody()) ||
+                ticket.getSubmittedAt() == null) {
+            logger.error("Missing required fields in ticket submission");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Missing required fields")));
+        }
 
-            // Validation for required fields
-            if (isBlank(ticket.getUnitNumber()) ||
-                    isBlank(ticket.getApartmentName()) ||
-                    isBlank(ticket.getName()) ||
-                    isBlank(ticket.getPhoneNumber()) ||
-                    ticket.getCategory() == null ||
-                    isBlank(ticket.getSubject()) ||
-                    isBlank(ticket.getBody()) ||
-                    isBlank(ticket.getSubmittedAt())) {
-                logger.error("Missing required fields in ticket submission");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(Map.of("error", "Missing required fields"));
-            }
+        return recaptchaService.verifyAsync(payload.getRecaptchaToken())
+                .thenApply(verified -> {
+                    if (!verified) {
+                        logger.warn("Recaptcha verification failed");
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                .body(Map.of("error", "reCAPTCHA verification failed"));
+                    }
+                    return save(ticket);
+                });
+    }
 
+    private ResponseEntity<?> save(Ticket ticket) {
+        try {
             // Default status if not provided
             if (ticket.getStatus() == null) {
                 ticket.setStatus(Status.PENDING);
             }
 
-            if (isBlank(ticket.getStatusUpdatedAt())) {
+            if (ticket.getStatusUpdatedAt() == null) {
                 ticket.setStatusUpdatedAt(ticket.getSubmittedAt());
             }
             ticket.setStatusUpdatedBy(null);
@@ -129,7 +146,7 @@ public class TicketController {
 
             Status enumStatus;
             try {
-                enumStatus = Status.valueOf(status.trim().toUpperCase().replace(" ", "_"));
+                enumStatus = Status.fromLabel(status);
             } catch (IllegalArgumentException ex) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error",
@@ -145,6 +162,106 @@ public class TicketController {
         }
     }
 
+    // Paginated listing for the admin page: summaries only (no body), newest first.
+    // Pass the returned nextCursor back as ?cursor= to fetch the following page.
+    @GetMapping("/page")
+    public ResponseEntity<?> getTicketPage(@RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String apartment,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        if (from != null && to != null && to.isBefore(from)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "'to' date cannot be earlier than 'from' date"));
+        }
+
+        Status statusFilter = null;
+        if (!isBlank(status)) {
+            try {
+                statusFilter = Status.fromLabel(status);
+            } catch (IllegalArgumentException ex) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("error", "Invalid status. Must be one of: Pending, In Progress, Resolved, Closed"));
+            }
+        }
+
+        Category categoryFilter = null;
+        if (!isBlank(category)) {
+            try {
+                categoryFilter = Category.fromLabel(category);
+            } catch (IllegalArgumentException ex) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("error", "Invalid category: " + category));
+            }
+        }
+
+        KeysetCursor after = null;
+        if (!isBlank(cursor)) {
+            try {
+                after = KeysetCursor.decode(cursor.trim());
+                Instant.parse(after.getKey());
+            } catch (ErrorException | DateTimeParseException ex) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("error", "Invalid cursor."));
+            }
+        }
+
+        try {
+            CursorPage<TicketSummary> page = ticketRepository.findPage(statusFilter, categoryFilter,
+                    isBlank(apartment) ? null : apartment.trim(), from, to, after, limit);
+            return ResponseEntity.ok(page);
+        } catch (ErrorException e) {
+            logger.error("Error fetching ticket page", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Unexpected server error."));
+        }
+    }
+
+    // Full-text search over subject, body, name, apartment and unit number, best match first.
+    // Pass the returned nextCursor back as ?cursor= to fetch the following page. Pages follow
+    // relevance, which moves as tickets change, so a hit can be skipped or repeated across pages.
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTickets(@RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        if (isBlank(q) || q.length() > MAX_SEARCH_LENGTH) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Search query must be between 1 and " + MAX_SEARCH_LENGTH + " characters"));
+        }
+
+        KeysetCursor after = null;
+        if (!isBlank(cursor)) {
+            try {
+                after = KeysetCursor.decode(cursor.trim());
+                Double.parseDouble(after.getKey());
+            } catch (ErrorException | NumberFormatException ex) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("error", "Invalid cursor."));
+            }
+        }
+
+        try {
+            CursorPage<TicketSummary> page = ticketRepository.search(q.trim(), after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        } catch (ErrorException e) {
+            logger.error("Error searching tickets", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Unexpected server error."));
+        }
+    }
+
     private boolean isBlank(String s) {
         return s == null || s.trim().isEmpty();
     }
@@ -172,19 +289,20 @@ public class TicketController {
 
         Status statusEnum;
         try {
-            statusEnum = Status.fromLabel(statusValue.trim());
+            statusEnum = Status.fromLabel(statusValue);
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", "Invalid status. Must be one of: Pending, In Progress, Resolved, Closed"));
         }
 
-        String statusUpdatedAt = payload.getStatusUpdatedAt();
-        if (isBlank(statusUpdatedAt)) {
+        String statusUpdatedAtValue = payload.getStatusUpdatedAt();
+        if (isBlank(statusUpdatedAtValue)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", "Status updated timestamp is required"));
         }
+        Instant statusUpdatedAt;
         try {
-            Instant.parse(statusUpdatedAt.trim());
+            statusUpdatedAt = Instant.parse(statusUpdatedAtValue.trim());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", "Invalid timestamp format for statusUpdatedAt"));
@@ -211,7 +329,7 @@ public class TicketController {
         }
 
         try {
-            int updatedRows = ticketRepository.updateStatus(ticketId, statusEnum, statusUpdatedAt.trim(),
+            int updatedRows = ticketRepository.updateStatus(ticketId, statusEnum, statusUpdatedAt,
                     statusUpdatedBy.trim());
             if (updatedRows == 0) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
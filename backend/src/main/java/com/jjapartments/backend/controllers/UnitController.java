@@ -9,7 +9,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 
+import com.jjapartments.backend.dto.UnitOverview;
 import com.jjapartments.backend.models.Unit;
+import com.jjapartments.backend.repository.UnitOverviewRepository;
 import com.jjapartments.backend.repository.UnitRepository;
 import com.jjapartments.backend.exception.ErrorException;
 
@@ -19,6 +21,10 @@ public class UnitController {
 
     @Autowired
     private UnitRepository unitRepository;
+    @Autowired
+    private UnitOverviewRepository unitOverviewRepository;
+
+    private static final int MAX_RECENT = 100;
 
     // Create
     @PostMapping("/add")
@@ -60,6 +66,22 @@ public class UnitController {
         }
     }
 
+    // Unit, active tenant, sub-tenants, past tenants and the latest payments and utilities in one response
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<?> getOverview(@PathVariable int id,
+            @RequestParam(value = "recent", defaultValue = "12") int recent) {
+        if (recent < 1 || recent > MAX_RECENT) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "recent must be between 1 and " + MAX_RECENT + "."));
+        }
+        try {
+            UnitOverview overview = unitOverviewRepository.findOverview(id, recent);
+            return ResponseEntity.ok(overview);
+        } catch (ErrorException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Search
     @GetMapping("/search")
     public List<Unit> searchUnits(@RequestParam("q") String query) {
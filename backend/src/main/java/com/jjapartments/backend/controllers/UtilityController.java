@@ -1,13 +1,23 @@
 package com.jjapartments.backend.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.http.HttpStatus;
 
 import com.jjapartments.backend.models.Utility;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.repository.UtilityRepository;
+import com.jjapartments.backend.dto.ImportResult;
+import com.jjapartments.backend.util.BulkImporter;
+import com.jjapartments.backend.util.LedgerExporter;
+import com.jjapartments.backend.util.LedgerFilter;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +27,10 @@ public class UtilityController {
 
     @Autowired
     private UtilityRepository utilityRepository;
+    @Autowired
+    private BulkImporter bulkImporter;
+    @Autowired
+    private LedgerExporter ledgerExporter;
 
     // Create
     @PostMapping("/add")
@@ -29,6 +43,37 @@ public class UtilityController {
         }
     }
 
+    // Bulk import (CSV with header row, or a JSON array)
+    @PostMapping("/import")
+    public ResponseEntity<?> importUtilities(HttpServletRequest request,
+            @RequestParam(value = "chunkSize", required = false) Integer chunkSize) {
+        try { // returns 200 with per-row errors, valid rows are still imported
+            UtilityRepository.ReadingChainImport utilityImport = utilityRepository.startImport();
+            ImportResult result = bulkImporter.importRows(request.getInputStream(), request.getContentType(),
+                    Utility.class, utilityImport::validate, utilityImport::write, chunkSize);
+            return ResponseEntity.ok(result);
+        } catch (ErrorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Could not read import file: " + e.getMessage()));
+        }
+    }
+
+    // Export as CSV or NDJSON, optionally filtered by unit and an inclusive month of start range
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUtilities(@RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "unitId", required = false) Integer unitId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LedgerFilter filter = LedgerFilter.of(unitId, from, to);
+            return ledgerExporter.export("utilities", format, Utility.class,
+                    action -> utilityRepository.streamLedger(filter, action));
+        } catch (ErrorException e) {
+            return ledgerExporter.error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     // Get all utilities
     @GetMapping
     public ResponseEntity<List<Utility>> getAllUtilities() {
@@ -73,10 +118,14 @@ public class UtilityController {
 
     // Find by year and month
     @GetMapping("/{id}/{year}/{month}")
-    public ResponseEntity<Float> findByYearAndMonth(@PathVariable int id, @PathVariable int year,
+    public ResponseEntity<?> findByYearAndMonth(@PathVariable int id, @PathVariable int year,
             @PathVariable int month) {
-        float utilities = utilityRepository.getMonthlyAmountByUnitId(id, year, month);
-        return ResponseEntity.ok(utilities);
+        try {
+            float utilities = utilityRepository.getMonthlyAmountByUnitId(id, year, month);
+            return ResponseEntity.ok(utilities);
+        } catch (ErrorException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
     }
 
 }
@@ -0,0 +1,92 @@
+package com.jjapartments.backend.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Portfolio figures for the admin dashboard; month figures cover the current calendar month
+public class DashboardSummary {
+    private final int totalUnits;
+    private final int occupiedUnits;
+    private final int vacantUnits;
+    private final double occupancyRate;
+    private final long unpaidDuesCount;
+    private final float unpaidDuesAmount;
+    private final long overdueUtilitiesCount;
+    private final float overdueUtilitiesAmount;
+    private final Map<String, Long> pendingTicketsByCategory;
+    private final float monthIncome;
+    private final float monthUtilityBills;
+    private final float monthExpenses;
+    private final Instant computedAt;
+
+    public DashboardSummary(int totalUnits, int occupiedUnits, long unpaidDuesCount, float unpaidDuesAmount,
+            long overdueUtilitiesCount, float overdueUtilitiesAmount, Map<String, Long> pendingTicketsByCategory,
+            float monthIncome, float monthUtilityBills, float monthExpenses, Instant computedAt) {
+        this.totalUnits = totalUnits;
+        this.occupiedUnits = occupiedUnits;
+        this.vacantUnits = totalUnits - occupiedUnits;
+        // percentage with one decimal place
+        this.occupancyRate = totalUnits == 0 ? 0 : Math.round(occupiedUnits * 1000.0 / totalUnits) / 10.0;
+        this.unpaidDuesCount = unpaidDuesCount;
+        this.unpaidDuesAmount = unpaidDuesAmount;
+        this.overdueUtilitiesCount = overdueUtilitiesCount;
+        this.overdueUtilitiesAmount = overdueUtilitiesAmount;
+        this.pendingTicketsByCategory = pendingTicketsByCategory;
+        this.monthIncome = monthIncome;
+        this.monthUtilityBills = monthUtilityBills;
+        this.monthExpenses = monthExpenses;
+        this.computedAt = computedAt;
+    }
+
+    public int getTotalUnits() {
+        return totalUnits;
+    }
+
+    public int getOccupiedUnits() {
+        return occupiedUnits;
+    }
+
+    public int getVacantUnits() {
+        return vacantUnits;
+    }
+
+    public double getOccupancyRate() {
+        return occupancyRate;
+    }
+
+    public long getUnpaidDuesCount() {
+        return unpaidDuesCount;
+    }
+
+    public float getUnpaidDuesAmount() {
+        return unpaidDuesAmount;
+    }
+
+    public long getOverdueUtilitiesCount() {
+        return overdueUtilitiesCount;
+    }
+
+    public float getOverdueUtilitiesAmount() {
+        return overdueUtilitiesAmount;
+    }
+
+    public Map<String, Long> getPendingTicketsByCategory() {
+        return pendingTicketsByCategory;
+    }
+
+    public float getMonthIncome() {
+        return monthIncome;
+    }
+
+    public float getMonthUtilityBills() {
+        return monthUtilityBills;
+    }
+
+    public float getMonthExpenses() {
+        return monthExpenses;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+}
@@ -0,0 +1,71 @@
+package com.jjapartments.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResult {
+    private int totalRows;
+    private int imported;
+    private List<RowError> errors = new ArrayList<>();
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public void addError(int row, String message) {
+        errors.add(new RowError(row, message));
+    }
+
+    public static class RowError {
+        private int row;
+        private String message;
+
+        public RowError() {
+        }
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public void setRow(int row) {
+            this.row = row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.jjapartments.backend.dto;
+
+import com.jjapartments.backend.models.AgingBucket;
+
+public class OverdueBucketTotal {
+    private final AgingBucket bucket;
+    private final long count;
+    private final float amount;
+
+    public OverdueBucketTotal(AgingBucket bucket, long count, float amount) {
+        this.bucket = bucket;
+        this.count = count;
+        this.amount = amount;
+    }
+
+    public AgingBucket getBucket() {
+        return bucket;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public float getAmount() {
+        return amount;
+    }
+}
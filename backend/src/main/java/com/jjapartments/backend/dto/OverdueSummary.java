@@ -0,0 +1,23 @@
+package com.jjapartments.backend.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+// Overdue totals per aging bucket; scannedAt is the latest scan's stamp, null while nothing is overdue
+public class OverdueSummary {
+    private final Instant scannedAt;
+    private final List<OverdueBucketTotal> buckets;
+
+    public OverdueSummary(Instant scannedAt, List<OverdueBucketTotal> buckets) {
+        this.scannedAt = scannedAt;
+        this.buckets = buckets;
+    }
+
+    public Instant getScannedAt() {
+        return scannedAt;
+    }
+
+    public List<OverdueBucketTotal> getBuckets() {
+        return buckets;
+    }
+}
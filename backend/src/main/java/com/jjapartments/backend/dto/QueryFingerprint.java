@@ -0,0 +1,58 @@
+package com.jjapartments.backend.dto;
+
+import java.time.Instant;
+
+public class QueryFingerprint {
+    private final String fingerprint;
+    private final long count;
+    private final long slowCount;
+    private final double totalMs;
+    private final double avgMs;
+    private final double maxMs;
+    private final Instant lastSlowAt;
+    private final String plan;
+
+    public QueryFingerprint(String fingerprint, long count, long slowCount, double totalMs, double avgMs,
+            double maxMs, Instant lastSlowAt, String plan) {
+        this.fingerprint = fingerprint;
+        this.count = count;
+        this.slowCount = slowCount;
+        this.totalMs = totalMs;
+        this.avgMs = avgMs;
+        this.maxMs = maxMs;
+        this.lastSlowAt = lastSlowAt;
+        this.plan = plan;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSlowCount() {
+        return slowCount;
+    }
+
+    public double getTotalMs() {
+        return totalMs;
+    }
+
+    public double getAvgMs() {
+        return avgMs;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    public Instant getLastSlowAt() {
+        return lastSlowAt;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+}
@@ -1,5 +1,7 @@
 package com.jjapartments.backend.dto;
 
+import java.time.LocalDate;
+
 import com.jjapartments.backend.models.Unit;
 
 public class TenantWithUnitDTO {
@@ -11,8 +13,8 @@ public class TenantWithUnitDTO {
     private String phoneNumber;
     private String messengerLink;
     private int unitId;
-    private String moveInDate;
-    private String moveOutDate;
+    private LocalDate moveInDate;
+    private LocalDate moveOutDate;
     private Unit unit;
 
     public TenantWithUnitDTO() {
@@ -82,19 +84,19 @@ public class TenantWithUnitDTO {
         this.unitId = unitId;
     }
 
-    public String getMoveInDate() {
+    public LocalDate getMoveInDate() {
         return moveInDate;
     }
 
-    public void setMoveInDate(String moveInDate) {
+    public void setMoveInDate(LocalDate moveInDate) {
         this.moveInDate = moveInDate;
     }
 
-    public String getMoveOutDate() {
+    public LocalDate getMoveOutDate() {
         return moveOutDate;
     }
 
-    public void setMoveOutDate(String moveOutDate) {
+    public void setMoveOutDate(LocalDate moveOutDate) {
         this.moveOutDate = moveOutDate;
     }
 
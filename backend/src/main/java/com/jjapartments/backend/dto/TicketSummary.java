@@ -0,0 +1,90 @@
+package com.jjapartments.backend.dto;
+
+import java.time.Instant;
+
+import com.jjapartments.backend.models.Category;
+import com.jjapartments.backend.models.Status;
+
+// Ticket listing row without the TEXT body and contact details; the full ticket comes from /api/tickets/{id}
+public class TicketSummary {
+    private int id;
+    private String unitNumber;
+    private String apartmentName;
+    private String name;
+    private Category category;
+    private String subject;
+    private Status status;
+    private Instant submittedAt;
+    private Instant statusUpdatedAt;
+    private String statusUpdatedBy;
+
+    public int getId() {
+        return id;
+    }
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getUnitNumber() {
+        return unitNumber;
+    }
+    public void setUnitNumber(String unitNumber) {
+        this.unitNumber = unitNumber;
+    }
+
+    public String getApartmentName() {
+        return apartmentName;
+    }
+    public void setApartmentName(String apartmentName) {
+        this.apartmentName = apartmentName;
+    }
+
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getStatusUpdatedAt() {
+        return statusUpdatedAt;
+    }
+    public void setStatusUpdatedAt(Instant statusUpdatedAt) {
+        this.statusUpdatedAt = statusUpdatedAt;
+    }
+
+    public String getStatusUpdatedBy() {
+        return statusUpdatedBy;
+    }
+    public void setStatusUpdatedBy(String statusUpdatedBy) {
+        this.statusUpdatedBy = statusUpdatedBy;
+    }
+}
@@ -0,0 +1,53 @@
+package com.jjapartments.backend.dto;
+
+import java.util.List;
+
+import com.jjapartments.backend.models.Payment;
+import com.jjapartments.backend.models.SubTenant;
+import com.jjapartments.backend.models.Tenant;
+import com.jjapartments.backend.models.Unit;
+import com.jjapartments.backend.models.Utility;
+
+// Everything the apartment overview page shows for one unit; activeTenant is null for a vacant unit
+public class UnitOverview {
+    private final Unit unit;
+    private final Tenant activeTenant;
+    private final List<SubTenant> subTenants;
+    private final List<Tenant> pastTenants;
+    private final List<Payment> recentPayments;
+    private final List<Utility> recentUtilities;
+
+    public UnitOverview(Unit unit, Tenant activeTenant, List<SubTenant> subTenants, List<Tenant> pastTenants,
+            List<Payment> recentPayments, List<Utility> recentUtilities) {
+        this.unit = unit;
+        this.activeTenant = activeTenant;
+        this.subTenants = subTenants;
+        this.pastTenants = pastTenants;
+        this.recentPayments = recentPayments;
+        this.recentUtilities = recentUtilities;
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+
+    public Tenant getActiveTenant() {
+        return activeTenant;
+    }
+
+    public List<SubTenant> getSubTenants() {
+        return subTenants;
+    }
+
+    public List<Tenant> getPastTenants() {
+        return pastTenants;
+    }
+
+    public List<Payment> getRecentPayments() {
+        return recentPayments;
+    }
+
+    public List<Utility> getRecentUtilities() {
+        return recentUtilities;
+    }
+}
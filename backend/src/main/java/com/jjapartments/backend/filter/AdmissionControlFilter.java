@@ -0,0 +1,191 @@
+package com.jjapartments.backend.filter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.jjapartments.backend.util.BoundedDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Admission control for /api/**. At most maxConcurrent requests run at once; extra requests
+// queue for up to maxWaitMs and are then turned away. Requests are also turned away
+// immediately while maxPendingConnections or more threads are already waiting for a
+// connection, on the Hikari pool or on BoundedDataSource in front of it. Either way the
+// client gets 503 with Retry-After instead of hanging until the connection timeout.
+// Async requests (streaming exports, ticket submit) keep their slot until they complete.
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    @Value("${app.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.admission.max-wait-ms:1000}")
+    private long maxWaitMs;
+
+    @Value("${app.admission.max-pending-connections:10}")
+    private int maxPendingConnections;
+
+    @Value("${app.admission.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final Semaphore slots;
+    private final Counter queueTimeouts;
+    private final Counter poolSaturated;
+    private HikariPoolMXBean pool;
+    private boolean notHikari;
+    private BoundedDataSource boundedDataSource;
+    private boolean notBounded;
+
+    public AdmissionControlFilter(@Value("${app.admission.max-concurrent:50}") int maxConcurrent,
+            MeterRegistry meterRegistry) {
+        this.slots = new Semaphore(maxConcurrent, true);
+        this.queueTimeouts = Counter.builder("http.admission.rejected").tag("reason", "queue_timeout")
+                .register(meterRegistry);
+        this.poolSaturated = Counter.builder("http.admission.rejected").tag("reason", "pool_saturated")
+                .register(meterRegistry);
+        Gauge.builder("http.admission.waiting", slots, Semaphore::getQueueLength).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || "OPTIONS".equalsIgnoreCase(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (threadsAwaitingConnection() >= maxPendingConnections) {
+            poolSaturated.increment();
+            reject(response, "Database is busy, please retry shortly");
+            return;
+        }
+
+        boolean admitted;
+        try {
+            admitted = slots.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            queueTimeouts.increment();
+            reject(response, "Server is busy, please retry shortly");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // the handler returned but the response is still being produced on another thread;
+                // ASYNC dispatches skip this filter, so the listener is the only place to release
+                request.getAsyncContext().addListener(new SlotReleasingListener());
+            } else {
+                slots.release();
+            }
+        }
+    }
+
+    // In virtual-thread mode BoundedDataSource has one permit per pooled connection, so
+    // waiters park on its semaphore and never show up in Hikari's count
+    private int threadsAwaitingConnection() {
+        HikariPoolMXBean poolBean = poolBean();
+        BoundedDataSource bounded = boundedDataSource();
+        return (poolBean != null ? poolBean.getThreadsAwaitingConnection() : 0)
+                + (bounded != null ? bounded.getWaitingThreads() : 0);
+    }
+
+    private BoundedDataSource boundedDataSource() {
+        if (boundedDataSource == null && !notBounded) {
+            try {
+                boundedDataSource = dataSource.unwrap(BoundedDataSource.class);
+            } catch (SQLException e) {
+                // app.db.access-limit.enabled=false
+                notBounded = true;
+            }
+        }
+        return boundedDataSource;
+    }
+
+    private HikariPoolMXBean poolBean() {
+        if (pool == null && !notHikari) {
+            try {
+                // null until the pool has started; looked up again on the next request
+                pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            } catch (SQLException e) {
+                logger.debug("DataSource is not Hikari; pool saturation check disabled");
+                notHikari = true;
+            }
+        }
+        return pool;
+    }
+
+    // releases the slot once however the async request ends (onComplete follows a timeout or error)
+    private class SlotReleasingListener implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // async restarted on the same request; listeners must be registered again
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
@@ -47,8 +47,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Protect all other /api/** endpoints
-        if (path.startsWith("/api/")) {
+        // Protect all other /api/** and /actuator/** endpoints
+        if (path.startsWith("/api/") || path.startsWith("/actuator/")) {
             String authHeader = request.getHeader("Authorization");
 
             // Missing or malformed Authorization header
@@ -59,16 +59,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             String token = authHeader.substring(7); // strip "Bearer "
 
-            // Validate token
-            if (!jwtUtil.validateToken(token)) {
+            // Validate token (one parse, or a cache hit for a token verified earlier)
+            Claims claims = jwtUtil.validateAndGetClaims(token);
+            if (claims == null) {
                 unauthorized(response, "Invalid or expired token");
                 return;
             }
 
             // Only set authentication if not already set
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                Claims claims = jwtUtil.extractClaims(token);
-
                 String username = claims.getSubject();
                 Integer userId = claims.get("userId", Integer.class);
 
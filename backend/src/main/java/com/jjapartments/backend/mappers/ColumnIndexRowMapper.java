@@ -0,0 +1,63 @@
+package com.jjapartments.backend.mappers;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.NonNull;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Base for the shared (singleton) row mappers: the column labels are looked up once per
+// ResultSet and every row is then read by position. Resolved positions are kept per
+// thread, so one mapper instance can serve concurrent queries with different column
+// orders; the ResultSet is only weakly referenced so a finished query is not kept alive.
+public abstract class ColumnIndexRowMapper<T> implements RowMapper<T> {
+
+    private final String[] columns;
+    private final ThreadLocal<Resolved> resolved = new ThreadLocal<>();
+
+    private static final class Resolved {
+        final WeakReference<ResultSet> resultSet;
+        final int[] index;
+
+        Resolved(ResultSet resultSet, int[] index) {
+            this.resultSet = new WeakReference<>(resultSet);
+            this.index = index;
+        }
+    }
+
+    protected ColumnIndexRowMapper(String... columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public final T mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        Resolved current = resolved.get();
+        if (current == null || current.resultSet.get() != rs) {
+            int[] index = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                index[i] = rs.findColumn(columns[i]);
+            }
+            current = new Resolved(rs, index);
+            resolved.set(current);
+        }
+        return mapRow(rs, current.index);
+    }
+
+    // col[i] is the ResultSet position of the i-th label passed to the constructor
+    protected abstract T mapRow(ResultSet rs, int[] col) throws SQLException;
+
+    // DATE columns, decoded by the driver straight into a LocalDate
+    protected static LocalDate getLocalDate(ResultSet rs, int column) throws SQLException {
+        return rs.getObject(column, LocalDate.class);
+    }
+
+    // DATETIME/TIMESTAMP columns; read as a Timestamp to mirror setTimestamp on write
+    protected static Instant getInstant(ResultSet rs, int column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toInstant() : null;
+    }
+}
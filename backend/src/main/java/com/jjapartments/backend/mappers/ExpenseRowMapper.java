@@ -1,22 +1,34 @@
 package com.jjapartments.backend.mappers;
-import org.springframework.jdbc.core.RowMapper;
 
 import com.jjapartments.backend.models.Expense;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class ExpenseRowMapper implements RowMapper<Expense>{
+public class ExpenseRowMapper extends ColumnIndexRowMapper<Expense> {
+
+    public static final ExpenseRowMapper INSTANCE = new ExpenseRowMapper();
+
+    private static final int ID = 0;
+    private static final int UNITS_ID = 1;
+    private static final int AMOUNT = 2;
+    private static final int MODE_OF_PAYMENT = 3;
+    private static final int REASON = 4;
+    private static final int DATE = 5;
+
+    private ExpenseRowMapper() {
+        super("id", "units_id", "amount", "mode_of_payment", "reason", "date");
+    }
+
     @Override
-    public Expense mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Expense mapRow(ResultSet rs, int[] col) throws SQLException {
         Expense expense = new Expense();
-        expense.setId(rs.getInt("id"));
-        expense.setUnitId(rs.getInt("units_id"));
-        expense.setAmount(rs.getFloat("amount"));
-        expense.setModeOfPayment(rs.getString("mode_of_payment"));
-        expense.setReason(rs.getString("reason"));
-        expense.setDate(rs.getString("date"));
+        expense.setId(rs.getInt(col[ID]));
+        expense.setUnitId(rs.getInt(col[UNITS_ID]));
+        expense.setAmount(rs.getFloat(col[AMOUNT]));
+        expense.setModeOfPayment(rs.getString(col[MODE_OF_PAYMENT]));
+        expense.setReason(rs.getString(col[REASON]));
+        expense.setDate(getLocalDate(rs, col[DATE]));
         return expense;
     }
 }
@@ -1,23 +1,36 @@
 package com.jjapartments.backend.mappers;
-import org.springframework.jdbc.core.RowMapper;
 
 import com.jjapartments.backend.models.MonthlyReport;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class MonthlyReportRowMapper implements RowMapper<MonthlyReport>{
+public class MonthlyReportRowMapper extends ColumnIndexRowMapper<MonthlyReport> {
+
+    public static final MonthlyReportRowMapper INSTANCE = new MonthlyReportRowMapper();
+
+    private static final int ID = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int UNITS_ID = 3;
+    private static final int MONTHLY_DUES = 4;
+    private static final int UTILITY_BILLS = 5;
+    private static final int EXPENSES = 6;
+
+    private MonthlyReportRowMapper() {
+        super("id", "year", "month", "units_id", "monthly_dues", "utility_bills", "expenses");
+    }
+
     @Override
-    public MonthlyReport mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected MonthlyReport mapRow(ResultSet rs, int[] col) throws SQLException {
         MonthlyReport monthlyReport = new MonthlyReport();
-        monthlyReport.setId(rs.getInt("id"));
-        monthlyReport.setYear(rs.getInt("year"));
-        monthlyReport.setMonth(rs.getInt("month"));
-        monthlyReport.setUnitId(rs.getInt("units_id"));
-        monthlyReport.setMonthlyDues(rs.getFloat("monthly_dues"));
-        monthlyReport.setUtilityBills(rs.getFloat("utility_bills"));
-        monthlyReport.setExpenses(rs.getFloat("expenses"));
+        monthlyReport.setId(rs.getInt(col[ID]));
+        monthlyReport.setYear(rs.getInt(col[YEAR]));
+        monthlyReport.setMonth(rs.getInt(col[MONTH]));
+        monthlyReport.setUnitId(rs.getInt(col[UNITS_ID]));
+        monthlyReport.setMonthlyDues(rs.getFloat(col[MONTHLY_DUES]));
+        monthlyReport.setUtilityBills(rs.getFloat(col[UTILITY_BILLS]));
+        monthlyReport.setExpenses(rs.getFloat(col[EXPENSES]));
         return monthlyReport;
     }
 }
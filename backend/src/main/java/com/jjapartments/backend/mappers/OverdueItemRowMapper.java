@@ -0,0 +1,34 @@
+package com.jjapartments.backend.mappers;
+
+import com.jjapartments.backend.models.OverdueItem;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class OverdueItemRowMapper extends ColumnIndexRowMapper<OverdueItem> {
+
+    public static final OverdueItemRowMapper INSTANCE = new OverdueItemRowMapper();
+
+    private static final int SOURCE = 0;
+    private static final int SOURCE_ID = 1;
+    private static final int UNITS_ID = 2;
+    private static final int AMOUNT = 3;
+    private static final int DUE_DATE = 4;
+    private static final int DETECTED_AT = 5;
+
+    private OverdueItemRowMapper() {
+        super("source", "source_id", "units_id", "amount", "due_date", "detected_at");
+    }
+
+    @Override
+    protected OverdueItem mapRow(ResultSet rs, int[] col) throws SQLException {
+        OverdueItem item = new OverdueItem();
+        item.setSource(rs.getString(col[SOURCE]));
+        item.setSourceId(rs.getInt(col[SOURCE_ID]));
+        item.setUnitId(rs.getInt(col[UNITS_ID]));
+        item.setAmount(rs.getFloat(col[AMOUNT]));
+        item.setDueDate(getLocalDate(rs, col[DUE_DATE]));
+        item.setDetectedAt(getInstant(rs, col[DETECTED_AT]));
+        return item;
+    }
+}
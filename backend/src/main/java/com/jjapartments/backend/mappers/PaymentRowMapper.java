@@ -1,26 +1,41 @@
 package com.jjapartments.backend.mappers;
-import org.springframework.jdbc.core.RowMapper;
 
 import com.jjapartments.backend.models.Payment;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class PaymentRowMapper implements RowMapper<Payment>{
+public class PaymentRowMapper extends ColumnIndexRowMapper<Payment> {
+
+    public static final PaymentRowMapper INSTANCE = new PaymentRowMapper();
+
+    private static final int ID = 0;
+    private static final int UNITS_ID = 1;
+    private static final int MODE_OF_PAYMENT = 2;
+    private static final int AMOUNT = 3;
+    private static final int DUE_DATE = 4;
+    private static final int MONTH_OF_START = 5;
+    private static final int MONTH_OF_END = 6;
+    private static final int IS_PAID = 7;
+    private static final int PAID_AT = 8;
+
+    private PaymentRowMapper() {
+        super("id", "units_id", "mode_of_payment", "amount", "due_date", "month_of_start", "month_of_end",
+                "is_paid", "paid_at");
+    }
+
     @Override
-    public Payment mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Payment mapRow(ResultSet rs, int[] col) throws SQLException {
         Payment payment = new Payment();
-        payment.setId(rs.getInt("id"));
-        payment.setUnitId(rs.getInt("units_id"));
-        payment.setModeOfPayment(rs.getString("mode_of_payment"));
-        payment.setAmount(rs.getFloat("amount"));
-        payment.setDueDate(rs.getString("due_date"));
-        payment.setMonthOfStart(rs.getString("month_of_start"));
-        payment.setMonthOfEnd(rs.getString("month_of_end"));
-        payment.setIsPaid(rs.getBoolean("is_paid"));
-        payment.setPaidAt(rs.getString("paid_at"));
-        
+        payment.setId(rs.getInt(col[ID]));
+        payment.setUnitId(rs.getInt(col[UNITS_ID]));
+        payment.setModeOfPayment(rs.getString(col[MODE_OF_PAYMENT]));
+        payment.setAmount(rs.getFloat(col[AMOUNT]));
+        payment.setDueDate(getLocalDate(rs, col[DUE_DATE]));
+        payment.setMonthOfStart(getLocalDate(rs, col[MONTH_OF_START]));
+        payment.setMonthOfEnd(getLocalDate(rs, col[MONTH_OF_END]));
+        payment.setIsPaid(rs.getBoolean(col[IS_PAID]));
+        payment.setPaidAt(getLocalDate(rs, col[PAID_AT]));
         return payment;
     }
 }
@@ -1,20 +1,30 @@
 package com.jjapartments.backend.mappers;
-import org.springframework.jdbc.core.RowMapper;
 
 import com.jjapartments.backend.models.Rate;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class RateRowMapper implements RowMapper<Rate>{
+public class RateRowMapper extends ColumnIndexRowMapper<Rate> {
+
+    public static final RateRowMapper INSTANCE = new RateRowMapper();
+
+    private static final int ID = 0;
+    private static final int TYPE = 1;
+    private static final int RATE = 2;
+    private static final int DATE = 3;
+
+    private RateRowMapper() {
+        super("id", "type", "rate", "date");
+    }
+
     @Override
-    public Rate mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Rate mapRow(ResultSet rs, int[] col) throws SQLException {
         Rate rate = new Rate();
-        rate.setId(rs.getInt("id"));
-        rate.setType(rs.getString("type"));
-        rate.setRate(rs.getFloat("rate"));
-        rate.setDate(rs.getString("date"));
+        rate.setId(rs.getInt(col[ID]));
+        rate.setType(rs.getString(col[TYPE]));
+        rate.setRate(rs.getFloat(col[RATE]));
+        rate.setDate(getLocalDate(rs, col[DATE]));
         return rate;
     }
 }
@@ -1,23 +1,37 @@
 package com.jjapartments.backend.mappers;
-import org.springframework.jdbc.core.RowMapper;
 
 import com.jjapartments.backend.models.SubTenant;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class SubTenantRowMapper implements RowMapper<SubTenant> {
+public class SubTenantRowMapper extends ColumnIndexRowMapper<SubTenant> {
+
+    public static final SubTenantRowMapper INSTANCE = new SubTenantRowMapper();
+
+    private static final int ID = 0;
+    private static final int LAST_NAME = 1;
+    private static final int FIRST_NAME = 2;
+    private static final int MIDDLE_INITIAL = 3;
+    private static final int PHONE_NUMBER = 4;
+    private static final int MESSENGER_LINK = 5;
+    private static final int MAIN_TENANT_ID = 6;
+
+    private SubTenantRowMapper() {
+        super("id", "last_name", "first_name", "middle_initial", "phone_number", "messenger_link",
+                "main_tenant_id");
+    }
+
     @Override
-    public SubTenant mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected SubTenant mapRow(ResultSet rs, int[] col) throws SQLException {
         SubTenant subTenant = new SubTenant();
-        subTenant.setId(rs.getInt("id"));
-        subTenant.setLastName(rs.getString("last_name"));
-        subTenant.setFirstName(rs.getString("first_name"));
-        subTenant.setMiddleInitial(rs.getString("middle_initial"));
-        subTenant.setPhoneNumber(rs.getString("phone_number"));
-        subTenant.setMessengerLink(rs.getString("messenger_link"));
-        subTenant.setMainTenantId(rs.getInt("main_tenant_id"));
+        subTenant.setId(rs.getInt(col[ID]));
+        subTenant.setLastName(rs.getString(col[LAST_NAME]));
+        subTenant.setFirstName(rs.getString(col[FIRST_NAME]));
+        subTenant.setMiddleInitial(rs.getString(col[MIDDLE_INITIAL]));
+        subTenant.setPhoneNumber(rs.getString(col[PHONE_NUMBER]));
+        subTenant.setMessengerLink(rs.getString(col[MESSENGER_LINK]));
+        subTenant.setMainTenantId(rs.getInt(col[MAIN_TENANT_ID]));
         return subTenant;
     }
-}
\ No newline at end of file
+}
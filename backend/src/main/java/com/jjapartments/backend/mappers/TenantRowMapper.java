@@ -1,27 +1,43 @@
 package com.jjapartments.backend.mappers;
 
-import org.springframework.jdbc.core.RowMapper;
-
 import com.jjapartments.backend.models.Tenant;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class TenantRowMapper implements RowMapper<Tenant> {
+public class TenantRowMapper extends ColumnIndexRowMapper<Tenant> {
+
+    public static final TenantRowMapper INSTANCE = new TenantRowMapper();
+
+    private static final int ID = 0;
+    private static final int LAST_NAME = 1;
+    private static final int FIRST_NAME = 2;
+    private static final int MIDDLE_INITIAL = 3;
+    private static final int EMAIL = 4;
+    private static final int PHONE_NUMBER = 5;
+    private static final int MESSENGER_LINK = 6;
+    private static final int UNITS_ID = 7;
+    private static final int MOVE_IN_DATE = 8;
+    private static final int MOVE_OUT_DATE = 9;
+
+    private TenantRowMapper() {
+        super("id", "last_name", "first_name", "middle_initial", "email", "phone_number", "messenger_link",
+                "units_id", "move_in_date", "move_out_date");
+    }
+
     @Override
-    public Tenant mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Tenant mapRow(ResultSet rs, int[] col) throws SQLException {
         Tenant tenant = new Tenant();
-        tenant.setId(rs.getInt("id"));
-        tenant.setLastName(rs.getString("last_name"));
-        tenant.setFirstName(rs.getString("first_name"));
-        tenant.setMiddleInitial(rs.getString("middle_initial"));
-        tenant.setEmail(rs.getString("email"));
-        tenant.setPhoneNumber(rs.getString("phone_number"));
-        tenant.setMessengerLink(rs.getString("messenger_link"));
-        tenant.setUnitId(rs.getInt("units_id"));
-        tenant.setMoveInDate(rs.getString("move_in_date"));
-        tenant.setMoveOutDate(rs.getString("move_out_date"));
+        tenant.setId(rs.getInt(col[ID]));
+        tenant.setLastName(rs.getString(col[LAST_NAME]));
+        tenant.setFirstName(rs.getString(col[FIRST_NAME]));
+        tenant.setMiddleInitial(rs.getString(col[MIDDLE_INITIAL]));
+        tenant.setEmail(rs.getString(col[EMAIL]));
+        tenant.setPhoneNumber(rs.getString(col[PHONE_NUMBER]));
+        tenant.setMessengerLink(rs.getString(col[MESSENGER_LINK]));
+        tenant.setUnitId(rs.getInt(col[UNITS_ID]));
+        tenant.setMoveInDate(getLocalDate(rs, col[MOVE_IN_DATE]));
+        tenant.setMoveOutDate(getLocalDate(rs, col[MOVE_OUT_DATE]));
         return tenant;
     }
 }
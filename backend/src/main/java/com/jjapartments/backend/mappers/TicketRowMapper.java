@@ -1,31 +1,54 @@
 package com.jjapartments.backend.mappers;
 
-import org.springframework.jdbc.core.RowMapper;
 import com.jjapartments.backend.models.Ticket;
 import com.jjapartments.backend.models.Category;
 import com.jjapartments.backend.models.Status;
-import org.springframework.lang.NonNull;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class TicketRowMapper implements RowMapper<Ticket> {
+public class TicketRowMapper extends ColumnIndexRowMapper<Ticket> {
+
+    public static final TicketRowMapper INSTANCE = new TicketRowMapper();
+
+    private static final int ID = 0;
+    private static final int UNIT_NUMBER = 1;
+    private static final int APARTMENT_NAME = 2;
+    private static final int NAME = 3;
+    private static final int PHONE_NUMBER = 4;
+    private static final int EMAIL = 5;
+    private static final int MESSENGER_LINK = 6;
+    private static final int CATEGORY = 7;
+    private static final int SUBJECT = 8;
+    private static final int BODY = 9;
+    private static final int STATUS = 10;
+    private static final int SUBMITTED_AT = 11;
+    private static final int STATUS_UPDATED_AT = 12;
+    private static final int STATUS_UPDATED_BY = 13;
+
+    private TicketRowMapper() {
+        super("id", "unit_number", "apartment_name", "name", "phone_number", "email", "messenger_link",
+                "category", "subject", "body", "status", "submitted_at", "status_updated_at",
+                "status_updated_by");
+    }
+
     @Override
-    public Ticket mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Ticket mapRow(ResultSet rs, int[] col) throws SQLException {
         Ticket ticket = new Ticket();
-        ticket.setId(rs.getInt("id"));
-        ticket.setUnitNumber(rs.getString("unit_number"));
-        ticket.setApartmentName(rs.getString("apartment_name"));
-        ticket.setName(rs.getString("name"));
-        ticket.setPhoneNumber(rs.getString("phone_number"));
-        ticket.setEmail(rs.getString("email"));
-        ticket.setMessengerLink(rs.getString("messenger_link"));
-        ticket.setCategory(Category.fromLabel(rs.getString("category")));
-        ticket.setSubject(rs.getString("subject"));
-        ticket.setBody(rs.getString("body"));
-        ticket.setStatus(Status.fromLabel(rs.getString("status")));
-        ticket.setSubmittedAt(rs.getString("submitted_at"));
-        ticket.setStatusUpdatedAt(rs.getString("status_updated_at"));
-        ticket.setStatusUpdatedBy(rs.getString("status_updated_by"));
+        ticket.setId(rs.getInt(col[ID]));
+        ticket.setUnitNumber(rs.getString(col[UNIT_NUMBER]));
+        ticket.setApartmentName(rs.getString(col[APARTMENT_NAME]));
+        ticket.setName(rs.getString(col[NAME]));
+        ticket.setPhoneNumber(rs.getString(col[PHONE_NUMBER]));
+        ticket.setEmail(rs.getString(col[EMAIL]));
+        ticket.setMessengerLink(rs.getString(col[MESSENGER_LINK]));
+        ticket.setCategory(Category.fromLabel(rs.getString(col[CATEGORY])));
+        ticket.setSubject(rs.getString(col[SUBJECT]));
+        ticket.setBody(rs.getString(col[BODY]));
+        ticket.setStatus(Status.fromLabel(rs.getString(col[STATUS])));
+        ticket.setSubmittedAt(getInstant(rs, col[SUBMITTED_AT]));
+        ticket.setStatusUpdatedAt(getInstant(rs, col[STATUS_UPDATED_AT]));
+        ticket.setStatusUpdatedBy(rs.getString(col[STATUS_UPDATED_BY]));
         return ticket;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.jjapartments.backend.mappers;
+
+import com.jjapartments.backend.dto.TicketSummary;
+import com.jjapartments.backend.models.Category;
+import com.jjapartments.backend.models.Status;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class TicketSummaryRowMapper extends ColumnIndexRowMapper<TicketSummary> {
+
+    public static final TicketSummaryRowMapper INSTANCE = new TicketSummaryRowMapper();
+
+    private static final int ID = 0;
+    private static final int UNIT_NUMBER = 1;
+    private static final int APARTMENT_NAME = 2;
+    private static final int NAME = 3;
+    private static final int CATEGORY = 4;
+    private static final int SUBJECT = 5;
+    private static final int STATUS = 6;
+    private static final int SUBMITTED_AT = 7;
+    private static final int STATUS_UPDATED_AT = 8;
+    private static final int STATUS_UPDATED_BY = 9;
+
+    private TicketSummaryRowMapper() {
+        super("id", "unit_number", "apartment_name", "name", "category", "subject", "status", "submitted_at",
+                "status_updated_at", "status_updated_by");
+    }
+
+    @Override
+    protected TicketSummary mapRow(ResultSet rs, int[] col) throws SQLException {
+        TicketSummary ticket = new TicketSummary();
+        ticket.setId(rs.getInt(col[ID]));
+        ticket.setUnitNumber(rs.getString(col[UNIT_NUMBER]));
+        ticket.setApartmentName(rs.getString(col[APARTMENT_NAME]));
+        ticket.setName(rs.getString(col[NAME]));
+        ticket.setCategory(Category.fromLabel(rs.getString(col[CATEGORY])));
+        ticket.setSubject(rs.getString(col[SUBJECT]));
+        ticket.setStatus(Status.fromLabel(rs.getString(col[STATUS])));
+        ticket.setSubmittedAt(getInstant(rs, col[SUBMITTED_AT]));
+        ticket.setStatusUpdatedAt(getInstant(rs, col[STATUS_UPDATED_AT]));
+        ticket.setStatusUpdatedBy(rs.getString(col[STATUS_UPDATED_BY]));
+        return ticket;
+    }
+}
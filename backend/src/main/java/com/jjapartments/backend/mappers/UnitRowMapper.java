@@ -1,26 +1,39 @@
 package com.jjapartments.backend.mappers;
 
-import org.springframework.jdbc.core.RowMapper;
-
 import com.jjapartments.backend.models.Unit;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class UnitRowMapper implements RowMapper<Unit> {
+public class UnitRowMapper extends ColumnIndexRowMapper<Unit> {
+
+    public static final UnitRowMapper INSTANCE = new UnitRowMapper();
+
+    private static final int ID = 0;
+    private static final int UNIT_NUMBER = 1;
+    private static final int NAME = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int PRICE = 4;
+    private static final int NUM_OCCUPANTS = 5;
+    private static final int CURR_OCCUPANTS = 6;
+    private static final int ACTIVE_TENANT_ID = 7;
+
+    private UnitRowMapper() {
+        super("id", "unit_number", "name", "description", "price", "num_occupants", "curr_occupants",
+                "active_tenant_id");
+    }
+
     @Override
-    public Unit mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Unit mapRow(ResultSet rs, int[] col) throws SQLException {
         Unit unit = new Unit();
-        unit.setId(rs.getInt("id"));
-        unit.setUnitNumber(rs.getString("unit_number"));
-        unit.setName(rs.getString("name"));
-        unit.setDescription(rs.getString("description"));
-        unit.setPrice(rs.getFloat("price"));
-        unit.setNumOccupants(rs.getInt("num_occupants"));
-        unit.setCurrOccupants(rs.getInt("curr_occupants"));
-        unit.setActiveTenantId(rs.getInt("active_tenant_id"));
-
+        unit.setId(rs.getInt(col[ID]));
+        unit.setUnitNumber(rs.getString(col[UNIT_NUMBER]));
+        unit.setName(rs.getString(col[NAME]));
+        unit.setDescription(rs.getString(col[DESCRIPTION]));
+        unit.setPrice(rs.getFloat(col[PRICE]));
+        unit.setNumOccupants(rs.getInt(col[NUM_OCCUPANTS]));
+        unit.setCurrOccupants(rs.getInt(col[CURR_OCCUPANTS]));
+        unit.setActiveTenantId(rs.getInt(col[ACTIVE_TENANT_ID]));
         return unit;
     }
 }
@@ -1,20 +1,30 @@
 package com.jjapartments.backend.mappers;
-import org.springframework.jdbc.core.RowMapper;
 
 import com.jjapartments.backend.models.User;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class UserRowMapper implements RowMapper<User>{
+public class UserRowMapper extends ColumnIndexRowMapper<User> {
+
+    public static final UserRowMapper INSTANCE = new UserRowMapper();
+
+    private static final int ID = 0;
+    private static final int USERNAME = 1;
+    private static final int PASSWORD = 2;
+    private static final int CREATED_AT = 3;
+
+    private UserRowMapper() {
+        super("id", "username", "password", "created_at");
+    }
+
     @Override
-    public User mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected User mapRow(ResultSet rs, int[] col) throws SQLException {
         User user = new User();
-        user.setId(rs.getInt("id"));
-        user.setUsername(rs.getString("username"));
-        user.setPassword(rs.getString("password"));
-        user.setCreatedAt(rs.getString("created_at"));
+        user.setId(rs.getInt(col[ID]));
+        user.setUsername(rs.getString(col[USERNAME]));
+        user.setPassword(rs.getString(col[PASSWORD]));
+        user.setCreatedAt(rs.getString(col[CREATED_AT]));
         return user;
     }
 }
@@ -1,29 +1,49 @@
 package com.jjapartments.backend.mappers;
-import org.springframework.jdbc.core.RowMapper;
 
 import com.jjapartments.backend.models.Utility;
-import org.springframework.lang.NonNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class UtilityRowMapper implements RowMapper<Utility>{
+public class UtilityRowMapper extends ColumnIndexRowMapper<Utility> {
+
+    public static final UtilityRowMapper INSTANCE = new UtilityRowMapper();
+
+    private static final int ID = 0;
+    private static final int TYPE = 1;
+    private static final int PREVIOUS_READING = 2;
+    private static final int CURRENT_READING = 3;
+    private static final int TOTAL_METER = 4;
+    private static final int TOTAL_AMOUNT = 5;
+    private static final int DUE_DATE = 6;
+    private static final int MONTH_OF_START = 7;
+    private static final int MONTH_OF_END = 8;
+    private static final int IS_PAID = 9;
+    private static final int PAID_AT = 10;
+    private static final int UNITS_ID = 11;
+    private static final int RATES_ID = 12;
+
+    private UtilityRowMapper() {
+        super("id", "type", "previous_reading", "current_reading", "total_meter", "total_amount", "due_date",
+                "month_of_start", "month_of_end", "is_paid", "paid_at", "units_id", "rates_id");
+    }
+
     @Override
-    public Utility mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Utility mapRow(ResultSet rs, int[] col) throws SQLException {
         Utility utility = new Utility();
-        utility.setId(rs.getInt("id"));
-        utility.setType(rs.getString("type"));
-        utility.setPreviousReading(rs.getFloat("previous_reading"));
-        utility.setCurrentReading(rs.getFloat("current_reading"));
-        utility.setTotalMeter(rs.getFloat("total_meter"));
-        utility.setTotalAmount(rs.getFloat("total_amount"));
-        utility.setDueDate(rs.getString("due_date"));
-        utility.setMonthOfStart(rs.getString("month_of_start"));
-        utility.setMonthOfEnd(rs.getString("month_of_end"));
-        utility.setIsPaid(rs.getBoolean("is_paid"));
-        utility.setPaidAt(rs.getString("paid_at"));
-        utility.setUnitId(rs.getInt("units_id"));
-        utility.setRateId(rs.getInt("rates_id"));
+        utility.setId(rs.getInt(col[ID]));
+        utility.setType(rs.getString(col[TYPE]));
+        utility.setPreviousReading(rs.getFloat(col[PREVIOUS_READING]));
+        utility.setCurrentReading(rs.getFloat(col[CURRENT_READING]));
+        utility.setTotalMeter(rs.getFloat(col[TOTAL_METER]));
+        utility.setTotalAmount(rs.getFloat(col[TOTAL_AMOUNT]));
+        utility.setDueDate(getLocalDate(rs, col[DUE_DATE]));
+        utility.setMonthOfStart(getLocalDate(rs, col[MONTH_OF_START]));
+        utility.setMonthOfEnd(getLocalDate(rs, col[MONTH_OF_END]));
+        utility.setIsPaid(rs.getBoolean(col[IS_PAID]));
+        utility.setPaidAt(getLocalDate(rs, col[PAID_AT]));
+        utility.setUnitId(rs.getInt(col[UNITS_ID]));
+        utility.setRateId(rs.getInt(col[RATES_ID]));
         return utility;
     }
 }
@@ -0,0 +1,52 @@
+package com.jjapartments.backend.models;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+// How long an unpaid item has been past its due date, in days
+public enum AgingBucket {
+    DAYS_1_30("1-30", 1, 30),
+    DAYS_31_60("31-60", 31, 60),
+    DAYS_61_90("61-90", 61, 90),
+    OVER_90("90+", 91, Integer.MAX_VALUE);
+
+    private static final LabelResolver<AgingBucket> LABELS = new LabelResolver<>(AgingBucket.class,
+            AgingBucket::getLabel, "aging bucket");
+
+    private final String label;
+    private final int minDays;
+    private final int maxDays;
+
+    AgingBucket(String label, int minDays, int maxDays) {
+        this.label = label;
+        this.minDays = minDays;
+        this.maxDays = maxDays;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public int getMinDays() {
+        return minDays;
+    }
+
+    public int getMaxDays() {
+        return maxDays;
+    }
+
+    public static AgingBucket of(long daysOverdue) {
+        for (AgingBucket bucket : values()) {
+            if (daysOverdue <= bucket.maxDays) {
+                return bucket;
+            }
+        }
+        return OVER_90;
+    }
+
+    // also accepts the enum name, e.g. "DAYS_31_60"
+    @JsonCreator
+    public static AgingBucket fromLabel(String label) {
+        return LABELS.resolve(label);
+    }
+}
@@ -10,7 +10,9 @@ public enum Category {
     AMENITIES_AND_FACILITIES("Amenities & Facilities"),
     OTHERS("Others");
 
-    
+    private static final LabelResolver<Category> LABELS = new LabelResolver<>(Category.class, Category::getLabel,
+            "category");
+
     private final String label;
 
     Category(String label) {
@@ -22,17 +24,10 @@ public enum Category {
         return label;
     }
 
+    // also accepts the enum name, e.g. "PAYMENT_AND_BILLING"
     @JsonCreator
     public static Category fromLabel(String label) {
-        if (label == null) {
-            return null;
-        }
-        for (Category c : Category.values()) {
-            if (c.label.equalsIgnoreCase(label)) {
-                return c;
-            }
-        }
-        throw new IllegalArgumentException("Unknown category label: " + label);
+        return LABELS.resolve(label);
     }
 }
 
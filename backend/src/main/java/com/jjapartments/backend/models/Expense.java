@@ -1,5 +1,7 @@
 package com.jjapartments.backend.models;
 
+import java.time.LocalDate;
+
 public class Expense {
 
     private int id;
@@ -7,7 +9,7 @@ public class Expense {
     private float amount;
     private String modeOfPayment;
     private String reason;
-    private String date;
+    private LocalDate date;
 
     public int getId() {
         return this.id;
@@ -49,11 +51,11 @@ public class Expense {
         this.reason = reason;
     }
 
-    public String getDate() {
+    public LocalDate getDate() {
         return this.date;
     }
 
-    public void setDate(String date) {
+    public void setDate(LocalDate date) {
         this.date = date;
     }
 
@@ -0,0 +1,45 @@
+package com.jjapartments.backend.models;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+// Label-to-enum lookup shared by the ticket enums, the row mappers and the controllers.
+// Accepts the stored label exactly as written ("In Progress"), in any case, or the enum
+// name ("IN_PROGRESS"). Exact labels, which is what the database returns, are a single
+// hash lookup with no allocation; anything else is folded to lower case first.
+public final class LabelResolver<E extends Enum<E>> {
+
+    private final String kind;
+    private final Map<String, E> exact = new HashMap<>();
+    private final Map<String, E> folded = new HashMap<>();
+
+    public LabelResolver(Class<E> type, Function<E, String> label, String kind) {
+        this.kind = kind;
+        for (E constant : type.getEnumConstants()) {
+            exact.put(label.apply(constant), constant);
+            exact.put(constant.name(), constant);
+            folded.put(fold(label.apply(constant)), constant);
+            folded.put(fold(constant.name()), constant);
+        }
+    }
+
+    public E resolve(String value) {
+        if (value == null) {
+            return null;
+        }
+        E constant = exact.get(value);
+        if (constant == null) {
+            constant = folded.get(fold(value));
+        }
+        if (constant == null) {
+            throw new IllegalArgumentException("Unknown " + kind + " label: " + value);
+        }
+        return constant;
+    }
+
+    private static String fold(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).replace('_', ' ');
+    }
+}
@@ -0,0 +1,85 @@
+package com.jjapartments.backend.models;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// An unpaid payment or utility bill past its due date, as of the last overdue scan.
+// daysOverdue and agingBucket are worked out from dueDate when the item is read.
+public class OverdueItem {
+
+    public static final String PAYMENT = "payment";
+    public static final String UTILITY = "utility";
+
+    private String source;
+    private int sourceId;
+    private int unitId;
+    private float amount;
+    private LocalDate dueDate;
+    private Instant detectedAt;
+    private long daysOverdue;
+    private AgingBucket agingBucket;
+
+    public String getSource() {
+        return this.source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public int getSourceId() {
+        return this.sourceId;
+    }
+
+    public void setSourceId(int sourceId) {
+        this.sourceId = sourceId;
+    }
+
+    public int getUnitId() {
+        return this.unitId;
+    }
+
+    public void setUnitId(int unitId) {
+        this.unitId = unitId;
+    }
+
+    public float getAmount() {
+        return this.amount;
+    }
+
+    public void setAmount(float amount) {
+        this.amount = amount;
+    }
+
+    public LocalDate getDueDate() {
+        return this.dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public Instant getDetectedAt() {
+        return this.detectedAt;
+    }
+
+    public void setDetectedAt(Instant detectedAt) {
+        this.detectedAt = detectedAt;
+    }
+
+    public long getDaysOverdue() {
+        return this.daysOverdue;
+    }
+
+    public void setDaysOverdue(long daysOverdue) {
+        this.daysOverdue = daysOverdue;
+    }
+
+    public AgingBucket getAgingBucket() {
+        return this.agingBucket;
+    }
+
+    public void setAgingBucket(AgingBucket agingBucket) {
+        this.agingBucket = agingBucket;
+    }
+}
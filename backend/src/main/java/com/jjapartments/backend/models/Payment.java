@@ -1,16 +1,18 @@
 package com.jjapartments.backend.models;
 
+import java.time.LocalDate;
+
 public class Payment {
 
     private int id;
     private int unitId;
     private String modeOfPayment;
     private float amount;
-    private String dueDate;
-    private String monthOfStart;
-    private String monthOfEnd;
+    private LocalDate dueDate;
+    private LocalDate monthOfStart;
+    private LocalDate monthOfEnd;
     private boolean isPaid;
-    private String paidAt;
+    private LocalDate paidAt;
 
     public Integer getId() {
         return this.id;
@@ -48,26 +50,26 @@ public class Payment {
         this.amount = amount;
     }
 
-    public String getDueDate() {
+    public LocalDate getDueDate() {
         return this.dueDate;
     }
 
-    public void setDueDate(String dueDate) {
+    public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
-    public String getMonthOfStart() {
+    public LocalDate getMonthOfStart() {
         return this.monthOfStart;
     }
 
-    public void setMonthOfStart(String monthOfStart) {
+    public void setMonthOfStart(LocalDate monthOfStart) {
         this.monthOfStart = monthOfStart;
     }
 
-    public String getMonthOfEnd() {
+    public LocalDate getMonthOfEnd() {
         return this.monthOfEnd;
     }
 
-    public void setMonthOfEnd(String monthOfEnd) {
+    public void setMonthOfEnd(LocalDate monthOfEnd) {
         this.monthOfEnd = monthOfEnd;
     }
 
@@ -79,11 +81,11 @@ public class Payment {
         this.isPaid = isPaid;
     }
 
-    public String getPaidAt() {
+    public LocalDate getPaidAt() {
         return this.paidAt;
     }
 
-    public void setPaidAt(String paidAt) {
+    public void setPaidAt(LocalDate paidAt) {
         this.paidAt = paidAt;
     }
 
@@ -1,11 +1,13 @@
 package com.jjapartments.backend.models;
 
+import java.time.LocalDate;
+
 public class Rate {
     
     private int id;
     private String type;
     private float rate;
-    private String date;
+    private LocalDate date;
 
     public int getId() {
         return this.id;
@@ -31,11 +33,11 @@ public class Rate {
         this.rate = rate;
     }
 
-    public String getDate() {
+    public LocalDate getDate() {
         return this.date;
     }
 
-    public void setDate(String date) {
+    public void setDate(LocalDate date) {
         this.date = date;
     }
 
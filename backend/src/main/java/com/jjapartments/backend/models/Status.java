@@ -8,6 +8,8 @@ public enum Status {
     RESOLVED("Resolved"),
     CLOSED("Closed");
 
+    private static final LabelResolver<Status> LABELS = new LabelResolver<>(Status.class, Status::getLabel, "status");
+
     private final String label;
 
     Status(String label) {
@@ -19,17 +21,10 @@ public enum Status {
         return label;
     }
 
+    // also accepts the enum name, e.g. "IN_PROGRESS"
     @JsonCreator
     public static Status fromLabel(String label) {
-        if (label == null) {
-            return null;
-        }
-        for (Status s : Status.values()) {
-            if (s.label.equalsIgnoreCase(label)) {
-                return s;
-            }
-        }
-        throw new IllegalArgumentException("Unknown status label: " + label);
+        return LABELS.resolve(label);
     }
 }
 
@@ -1,5 +1,7 @@
 package com.jjapartments.backend.models;
 
+import java.time.LocalDate;
+
 public class Tenant {
 
     private int id;
@@ -10,8 +12,8 @@ public class Tenant {
     private String phoneNumber;
     private String messengerLink;
     private int unitId;
-    private String moveInDate;
-    private String moveOutDate;
+    private LocalDate moveInDate;
+    private LocalDate moveOutDate;
 
     public int getId() {
         return id;
@@ -77,19 +79,19 @@ public class Tenant {
         this.unitId = unitId;
     }
 
-    public String getMoveInDate() {
+    public LocalDate getMoveInDate() {
         return moveInDate;
     }
 
-    public void setMoveInDate(String moveInDate) {
+    public void setMoveInDate(LocalDate moveInDate) {
         this.moveInDate = moveInDate;
     }
 
-    public String getMoveOutDate() {
+    public LocalDate getMoveOutDate() {
         return moveOutDate;
     }
 
-    public void setMoveOutDate(String moveOutDate) {
+    public void setMoveOutDate(LocalDate moveOutDate) {
         this.moveOutDate = moveOutDate;
     }
 }
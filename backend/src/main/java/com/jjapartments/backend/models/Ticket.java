@@ -1,4 +1,6 @@
 package com.jjapartments.backend.models;
+
+import java.time.Instant;
 public class Ticket {
 
     private int id;
@@ -12,8 +14,8 @@ public class Ticket {
     private String subject;           
     private String body;              
     private Status status;            
-    private String submittedAt;       
-    private String statusUpdatedAt;    
+    private Instant submittedAt;       
+    private Instant statusUpdatedAt;    
     private String statusUpdatedBy;  
 
 
@@ -31,8 +33,8 @@ public class Ticket {
             String subject,
             String body,
             Status status,
-            String submittedAt,
-            String statusUpdatedAt,
+            Instant submittedAt,
+            Instant statusUpdatedAt,
             String statusUpdatedBy) {
         this.id = id;
         this.unitNumber = unitNumber;
@@ -127,17 +129,17 @@ public class Ticket {
         this.status = status;
     }
     
-    public String getSubmittedAt() {
+    public Instant getSubmittedAt() {
         return submittedAt;
     }
-    public void setSubmittedAt(String submittedAt) {
+    public void setSubmittedAt(Instant submittedAt) {
         this.submittedAt = submittedAt;
     }
 
-    public String getStatusUpdatedAt() {
+    public Instant getStatusUpdatedAt() {
         return statusUpdatedAt;
     }
-    public void setStatusUpdatedAt(String statusUpdatedAt) {
+    public void setStatusUpdatedAt(Instant statusUpdatedAt) {
         this.statusUpdatedAt = statusUpdatedAt;
     }
 
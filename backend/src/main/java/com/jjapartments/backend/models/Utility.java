@@ -1,5 +1,7 @@
 package com.jjapartments.backend.models;
 
+import java.time.LocalDate;
+
 public class Utility {
 
     private int id;
@@ -8,11 +10,11 @@ public class Utility {
     private float currentReading;
     private float totalMeter;
     private float totalAmount;
-    private String dueDate;
-    private String monthOfStart;
-    private String monthOfEnd;
+    private LocalDate dueDate;
+    private LocalDate monthOfStart;
+    private LocalDate monthOfEnd;
     private boolean isPaid;
-    private String paidAt;
+    private LocalDate paidAt;
     private int unitId;
     private int rateId;
     
@@ -65,27 +67,27 @@ public class Utility {
         this.totalAmount = totalAmount;
     }
 
-    public String getDueDate() {
+    public LocalDate getDueDate() {
         return this.dueDate;
     }
 
-    public void setDueDate(String dueDate) {
+    public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
 
-    public String getMonthOfStart() {
+    public LocalDate getMonthOfStart() {
         return this.monthOfStart;
     }
 
-    public void setMonthOfStart(String monthOfStart) {
+    public void setMonthOfStart(LocalDate monthOfStart) {
         this.monthOfStart = monthOfStart;
     }
 
-    public String getMonthOfEnd() {
+    public LocalDate getMonthOfEnd() {
         return this.monthOfEnd;
     }
 
-    public void setMonthOfEnd(String monthOfEnd) {
+    public void setMonthOfEnd(LocalDate monthOfEnd) {
         this.monthOfEnd = monthOfEnd;
     }
 
@@ -97,11 +99,11 @@ public class Utility {
         this.isPaid = isPaid;
     }
 
-    public String getPaidAt() {
+    public LocalDate getPaidAt() {
         return this.paidAt;
     }
 
-    public void setPaidAt(String paidAt) {
+    public void setPaidAt(LocalDate paidAt) {
         this.paidAt = paidAt;
     }
 
@@ -0,0 +1,88 @@
+package com.jjapartments.backend.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jjapartments.backend.dto.DashboardSummary;
+import com.jjapartments.backend.models.Category;
+import com.jjapartments.backend.models.Status;
+import com.jjapartments.backend.util.MonthRange;
+
+@Repository
+public class DashboardRepository {
+
+    // every scalar figure in one round trip: each derived table collapses to a single row.
+    // Month totals come from unit_monthly_ledger; expenses without a unit aren't tracked
+    // there, so they are added from the expenses table.
+    private static final String SUMMARY_SQL = """
+            SELECT *
+            FROM (
+                SELECT COUNT(*) AS total_units, COUNT(active_tenant_id) AS occupied_units
+                FROM units
+            ) u
+            CROSS JOIN (
+                SELECT COUNT(*) AS unpaid_dues_count, COALESCE(SUM(amount), 0) AS unpaid_dues_amount
+                FROM payments
+                WHERE is_paid = 0
+            ) p
+            CROSS JOIN (
+                SELECT COUNT(*) AS overdue_utilities_count, COALESCE(SUM(total_amount), 0) AS overdue_utilities_amount
+                FROM utilities
+                WHERE is_paid = 0 AND due_date < ?
+            ) ut
+            CROSS JOIN (
+                SELECT COALESCE(SUM(payments), 0) AS month_income,
+                       COALESCE(SUM(utilities), 0) AS month_utility_bills,
+                       COALESCE(SUM(expenses), 0) AS month_unit_expenses
+                FROM unit_monthly_ledger
+                WHERE year = ? AND month = ?
+            ) l
+            CROSS JOIN (
+                SELECT COALESCE(SUM(amount), 0) AS month_other_expenses
+                FROM expenses
+                WHERE units_id IS NULL AND date >= ? AND date < ?
+            ) e
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public DashboardSummary summarize(LocalDate today) {
+        Map<String, Long> pendingTickets = countPendingTicketsByCategory();
+        MonthRange range = MonthRange.of(today.getYear(), today.getMonthValue());
+        return jdbcTemplate.queryForObject(SUMMARY_SQL, (rs, rowNum) -> new DashboardSummary(
+                rs.getInt("total_units"),
+                rs.getInt("occupied_units"),
+                rs.getLong("unpaid_dues_count"),
+                rs.getFloat("unpaid_dues_amount"),
+                rs.getLong("overdue_utilities_count"),
+                rs.getFloat("overdue_utilities_amount"),
+                pendingTickets,
+                rs.getFloat("month_income"),
+                rs.getFloat("month_utility_bills"),
+                rs.getFloat("month_unit_expenses") + rs.getFloat("month_other_expenses"),
+                Instant.now()),
+                today, today.getYear(), today.getMonthValue(), range.startDate(), range.endDate());
+    }
+
+    // every category is listed, with 0 when it has no pending tickets
+    private Map<String, Long> countPendingTicketsByCategory() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Category category : Category.values()) {
+            counts.put(category.getLabel(), 0L);
+        }
+        String sql = "SELECT category, COUNT(*) AS total FROM tickets WHERE status = ? GROUP BY category";
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(Category.fromLabel(rs.getString("category")).getLabel(), rs.getLong("total"));
+        }, Status.PENDING.getLabel());
+        return counts;
+    }
+}
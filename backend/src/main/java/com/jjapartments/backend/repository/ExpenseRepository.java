@@ -1,6 +1,10 @@
 package com.jjapartments.backend.repository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -9,80 +13,122 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Repository;
 
 import com.jjapartments.backend.models.Expense;
+import com.jjapartments.backend.repository.LedgerBalanceRepository.Column;
+import com.jjapartments.backend.repository.LedgerBalanceRepository.Posting;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.mappers.ExpenseRowMapper;
+import com.jjapartments.backend.util.JdbcInsert;
+import com.jjapartments.backend.util.JdbcStreaming;
+import com.jjapartments.backend.util.LedgerFilter;
 
 @Repository
 public class ExpenseRepository{
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private LedgerBalanceRepository ledgerBalanceRepository;
 
     @Transactional(readOnly = true)
     public List<Expense> findAll() {
         String sql = "SELECT * FROM expenses ORDER BY date ASC"; 
-        return jdbcTemplate.query(sql, new ExpenseRowMapper());
+        return jdbcTemplate.query(sql, ExpenseRowMapper.INSTANCE);
     }
 
-    public Expense add(Expense expense) {
+    public void validate(Expense expense) {
         if (expense.getAmount() <= 0) {
             throw new ErrorException("Amount cannot be ₱0 or below");
         }
+    }
+
+    // expenses count towards the month of their date; unit-less ones stay out of the ledger
+    private static Posting posting(Expense expense) {
+        return Posting.of(expense.getUnitId(), expense.getDate(), expense.getAmount());
+    }
+
+    private Expense findForUpdate(int id) {
+        List<Expense> rows = jdbcTemplate.query("SELECT * FROM expenses WHERE id = ? FOR UPDATE", ExpenseRowMapper.INSTANCE, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Transactional
+    public Expense add(Expense expense) {
+        validate(expense);
 
         String sql = "INSERT INTO expenses(units_id, amount, mode_of_payment, reason, date) VALUES (?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, expense.getUnitId(), expense.getAmount(), expense.getModeOfPayment(), expense.getReason(), expense.getDate());
-    
-        String fetchSql = """
-            SELECT * FROM expenses
-            WHERE units_id = ?
-            AND amount = ?
-            AND mode_of_payment = ?
-            AND reason = ?
-            AND date = ?
-            ORDER BY id DESC
-            LIMIT 1
-        """;
-
-        return jdbcTemplate.queryForObject(
-            fetchSql,
-            new ExpenseRowMapper(),
-            expense.getUnitId(),
-            expense.getAmount(),
-            expense.getModeOfPayment(),
-            expense.getReason(),
-            expense.getDate()
-        );
+        int id = JdbcInsert.insertReturningId(jdbcTemplate, sql, expense.getUnitId(), expense.getAmount(), expense.getModeOfPayment(), expense.getReason(), expense.getDate());
+        expense.setId(id);
+        ledgerBalanceRepository.post(Column.EXPENSES, posting(expense));
+        return expense;
 
     }
 
+    // same rules as add, plus a unit check against a snapshot taken once per import
+    public Consumer<Expense> importValidator() {
+        Set<Integer> unitIds = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM units", Integer.class));
+        return expense -> {
+            validate(expense);
+            if (!unitIds.contains(expense.getUnitId())) {
+                throw new ErrorException("Unit with id " + expense.getUnitId() + " not found.");
+            }
+        };
+    }
+
+    @Transactional
+    public int[] addAll(List<Expense> expenses) {
+        String sql = "INSERT INTO expenses(units_id, amount, mode_of_payment, reason, date) VALUES (?, ?, ?, ?, ?)";
+        List<Object[]> args = new ArrayList<>(expenses.size());
+        for (Expense expense : expenses) {
+            args.add(new Object[] { expense.getUnitId(), expense.getAmount(), expense.getModeOfPayment(), expense.getReason(), expense.getDate() });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+        ledgerBalanceRepository.postAll(Column.EXPENSES, expenses.stream().map(ExpenseRepository::posting).toList());
+        return counts;
+    }
+
+    // cursor-backed read for exports; rows are mapped and handed over one at a time
+    public void streamLedger(LedgerFilter filter, Consumer<Expense> action) {
+        String sql = "SELECT * FROM expenses" + filter.where("date") + " ORDER BY date ASC, id ASC";
+        JdbcStreaming.query(jdbcTemplate, sql, rs -> action.accept(ExpenseRowMapper.INSTANCE.mapRow(rs, rs.getRow())), filter.args());
+    }
+
+    @Transactional
     public int delete(int id) {
+        Expense existing = findForUpdate(id);
+        if (existing == null) {
+            return 0;
+        }
         String sql = "DELETE FROM expenses WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+        int rows = jdbcTemplate.update(sql, id);
+        ledgerBalanceRepository.reverse(Column.EXPENSES, posting(existing));
+        return rows;
     }
 
     public Expense findById(int id) {
         String sql = "SELECT * FROM expenses WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new ExpenseRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, ExpenseRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Expense with id " + id + " not found.");
         }
     }
 
+    @Transactional
     public int update(int id, Expense expense) {
-        if (findById(id) == null) {
-            throw new ErrorException("Expense not found");
+        Expense existing = findForUpdate(id);
+        if (existing == null) {
+            throw new ErrorException("Expense with id " + id + " not found.");
         }
         if (expense.getAmount() < 0) {
             throw new ErrorException("Amount cannot be below ₱0");
         }
         
         String sql = "UPDATE expenses SET units_id = ?, amount = ?, mode_of_payment = ?, reason = ?, date = ? WHERE id = ?";
-        return jdbcTemplate.update(sql, expense.getUnitId(), expense.getAmount(), expense.getModeOfPayment(), expense.getReason(), expense.getDate(), id);
+        int rows = jdbcTemplate.update(sql, expense.getUnitId(), expense.getAmount(), expense.getModeOfPayment(), expense.getReason(), expense.getDate(), id);
+        ledgerBalanceRepository.replace(Column.EXPENSES, posting(existing), posting(expense));
+        return rows;
     }
 
     public float getMonthlyAmountById(int id, int year, int month) {
-        String sql = "SELECT COALESCE(SUM(amount), 0) FROM expenses WHERE units_id = ? AND YEAR(date) = ? AND MONTH(date) = ?";
-        Float amount = jdbcTemplate.queryForObject(sql, Float.class, id, year, month);
-        return amount != null? amount : 0.0f;
+        return ledgerBalanceRepository.findAmount(Column.EXPENSES, id, year, month);
     }
 }
\ No newline at end of file
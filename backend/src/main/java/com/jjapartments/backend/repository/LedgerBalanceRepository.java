@@ -0,0 +1,104 @@
+package com.jjapartments.backend.repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.jjapartments.backend.util.MonthRange;
+
+// Per-unit, per-month totals kept in unit_monthly_ledger. Payment, utility and expense
+// writes post their contribution here in the same transaction, so month reads are a
+// primary key lookup instead of a SUM over the source tables.
+@Repository
+public class LedgerBalanceRepository {
+
+    // one column per source table; names are fixed, never user input
+    public enum Column {
+        PAYMENTS("payments"), UTILITIES("utilities"), EXPENSES("expenses");
+
+        private final String name;
+
+        Column(String name) {
+            this.name = name;
+        }
+    }
+
+    // what a single row adds to the ledger: its unit, the day that picks the month, and the amount
+    public record Posting(int unitId, LocalDate date, float amount) {
+
+        // rows without a unit or a date don't land in any month
+        public static Posting of(int unitId, LocalDate date, float amount) {
+            return unitId > 0 && date != null ? new Posting(unitId, date, amount) : null;
+        }
+    }
+
+    private record Key(int unitId, int year, int month) {}
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void post(Column column, Posting posting) {
+        if (posting != null) {
+            jdbcTemplate.update(upsertSql(column), posting.unitId(), posting.date().getYear(), posting.date().getMonthValue(), money(posting.amount()));
+        }
+    }
+
+    public void reverse(Column column, Posting posting) {
+        if (posting != null) {
+            jdbcTemplate.update(upsertSql(column), posting.unitId(), posting.date().getYear(), posting.date().getMonthValue(), money(posting.amount()).negate());
+        }
+    }
+
+    // takes the old contribution out and puts the new one in, which also moves the
+    // amount between units or months when those changed
+    public void replace(Column column, Posting before, Posting after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        reverse(column, before);
+        post(column, after);
+    }
+
+    // imports: postings are summed per unit and month first, so a chunk costs one batch
+    public void postAll(Column column, List<Posting> postings) {
+        Map<Key, BigDecimal> totals = new LinkedHashMap<>();
+        for (Posting posting : postings) {
+            if (posting != null) {
+                Key key = new Key(posting.unitId(), posting.date().getYear(), posting.date().getMonthValue());
+                totals.merge(key, money(posting.amount()), BigDecimal::add);
+            }
+        }
+        if (totals.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(totals.size());
+        totals.forEach((key, amount) -> args.add(new Object[] { key.unitId(), key.year(), key.month(), amount }));
+        jdbcTemplate.batchUpdate(upsertSql(column), args);
+    }
+
+    public float findAmount(Column column, int unitId, int year, int month) {
+        MonthRange.validate(year, month);
+        String sql = "SELECT COALESCE(SUM(" + column.name + "), 0) FROM unit_monthly_ledger WHERE year = ? AND month = ? AND units_id = ?";
+        Float amount = jdbcTemplate.queryForObject(sql, Float.class, year, month, unitId);
+        return amount != null ? amount : 0.0f;
+    }
+
+    private static String upsertSql(Column column) {
+        return "INSERT INTO unit_monthly_ledger(units_id, year, month, " + column.name + ") VALUES (?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE " + column.name + " = " + column.name + " + VALUES(" + column.name + ")";
+    }
+
+    // the source columns are DECIMAL(10,2); round the same way so posted and stored amounts agree
+    private static BigDecimal money(float amount) {
+        return new BigDecimal(Float.toString(amount)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -1,25 +1,36 @@
 package com.jjapartments.backend.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Repository;
 import com.jjapartments.backend.models.MonthlyReport;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.mappers.MonthlyReportRowMapper;
+import com.jjapartments.backend.util.MonthRange;
 
 @Repository
 public class MonthlyReportRepository{
+
+    // CREATE fails if the month already has reports, RESUME only fills in missing units,
+    // REGENERATE overwrites existing rows in place through the unique_unit_year_month key
+    public enum Mode {
+        CREATE, RESUME, REGENERATE
+    }
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
     @Transactional(readOnly = true)
     public List<MonthlyReport> findAll() {
         String sql = "SELECT * FROM monthly_reports"; 
-        return jdbcTemplate.query(sql, new MonthlyReportRowMapper());
+        return jdbcTemplate.query(sql, MonthlyReportRowMapper.INSTANCE);
     }
 
     public int delete(int year, int month) {
@@ -28,17 +39,21 @@ public class MonthlyReportRepository{
     }
 
     public float sumPayments(int year, int month) {
+        MonthRange range = MonthRange.of(year, month);
         String sql = "SELECT COALESCE(SUM(amount), 0) FROM payments " +
-                     "WHERE is_paid = 1 AND YEAR(paid_at) = ? AND MONTH(paid_at) = ?";
-        Float sum = jdbcTemplate.queryForObject(sql, Float.class, year, month);
+                     "WHERE is_paid = 1 AND paid_at >= ? AND paid_at < ?";
+        Float sum = jdbcTemplate.queryForObject(sql, Float.class, range.startDate(), range.endDate());
         return sum != null ? sum : 0.0f;
     }
 
     public float sumExpenses(int year, int month) {
-        String sql = "SELECT COALESCE(SUM(amount), 0) FROM %s WHERE YEAR(date) = ? AND MONTH(date) = ?";
+        MonthRange range = MonthRange.of(year, month);
+        String expenseSql = "SELECT COALESCE(SUM(amount), 0) FROM expenses WHERE date >= ? AND date < ?";
+        String utilitySql = "SELECT COALESCE(SUM(total_amount), 0) FROM utilities " +
+                            "WHERE is_paid = 1 AND paid_at >= ? AND paid_at < ?";
     
-        Float expenseSum = jdbcTemplate.queryForObject(String.format(sql, "expenses"), Float.class, year, month);
-        Float utilitySum = jdbcTemplate.queryForObject(String.format(sql, "utilities"), Float.class, year, month);
+        Float expenseSum = jdbcTemplate.queryForObject(expenseSql, Float.class, range.startDate(), range.endDate());
+        Float utilitySum = jdbcTemplate.queryForObject(utilitySql, Float.class, range.startDate(), range.endDate());
         
         return (expenseSum != null ? expenseSum : 0f) + (utilitySum != null ? utilitySum : 0f);
     }
@@ -56,10 +71,82 @@ public class MonthlyReportRepository{
         );
     }
 
+    // per-unit dues, utilities and expenses for the month, read from the running totals in
+    // unit_monthly_ledger (one row per unit at most) rather than summed from the source tables
+    @Transactional(readOnly = true)
+    public List<MonthlyReport> computeForMonth(int year, int month) {
+        MonthRange.validate(year, month);
+        String sql = """
+                SELECT
+                    u.id AS units_id,
+                    COALESCE(l.payments, 0) AS monthly_dues,
+                    COALESCE(l.utilities, 0) AS utility_bills,
+                    COALESCE(l.expenses, 0) AS expenses
+                FROM units u
+                LEFT JOIN unit_monthly_ledger l
+                    ON l.year = ? AND l.month = ? AND l.units_id = u.id
+                ORDER BY u.id
+                """;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            MonthlyReport report = new MonthlyReport();
+            report.setYear(year);
+            report.setMonth(month);
+            report.setUnitId(rs.getInt("units_id"));
+            report.setMonthlyDues(rs.getFloat("monthly_dues"));
+            report.setUtilityBills(rs.getFloat("utility_bills"));
+            report.setExpenses(rs.getFloat("expenses"));
+            return report;
+        }, year, month);
+    }
+
+    public int[] addAll(List<MonthlyReport> reports, Mode mode) {
+        String sql = "INSERT INTO monthly_reports(year, month, units_id, monthly_dues, utility_bills, expenses) " +
+                     "VALUES (?, ?, ?, ?, ?, ?)";
+        if (mode == Mode.RESUME) {
+            sql += " ON DUPLICATE KEY UPDATE id = id";
+        } else if (mode == Mode.REGENERATE) {
+            sql += " ON DUPLICATE KEY UPDATE monthly_dues = VALUES(monthly_dues), " +
+                   "utility_bills = VALUES(utility_bills), expenses = VALUES(expenses)";
+        }
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                MonthlyReport report = reports.get(i);
+                ps.setInt(1, report.getYear());
+                ps.setInt(2, report.getMonth());
+                ps.setInt(3, report.getUnitId());
+                ps.setFloat(4, report.getMonthlyDues());
+                ps.setFloat(5, report.getUtilityBills());
+                ps.setFloat(6, report.getExpenses());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reports.size();
+            }
+        });
+    }
+
+    // computes every unit's figures for the month and writes them as a single batch;
+    // runs as one transaction so a failure leaves the month exactly as it was
+    @Transactional
+    public int generate(int year, int month, Mode mode) {
+        if (mode == null) {
+            mode = Mode.CREATE;
+        }
+        List<MonthlyReport> reports = computeForMonth(year, month);
+        if (reports.isEmpty()) {
+            return 0;
+        }
+        addAll(reports, mode);
+        return reports.size();
+    }
+
     public MonthlyReport findById(int id) {
         String sql = "SELECT * FROM monthly_reports WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new MonthlyReportRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, MonthlyReportRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Monthly Report with id " + id + " not found.");
         }
@@ -0,0 +1,171 @@
+package com.jjapartments.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jjapartments.backend.dto.CursorPage;
+import com.jjapartments.backend.dto.OverdueBucketTotal;
+import com.jjapartments.backend.dto.OverdueSummary;
+import com.jjapartments.backend.exception.ErrorException;
+import com.jjapartments.backend.mappers.OverdueItemRowMapper;
+import com.jjapartments.backend.models.AgingBucket;
+import com.jjapartments.backend.models.OverdueItem;
+import com.jjapartments.backend.util.KeysetCursor;
+
+@Repository
+public class OverdueRepository {
+
+    // both scans run off idx_payments_overdue / idx_utilities_overdue (is_paid, due_date)
+    private static final String SCAN_PAYMENTS = """
+            INSERT INTO overdue_items (source, source_id, units_id, amount, due_date, last_seen_at)
+            SELECT 'payment', id, units_id, amount, due_date, ?
+            FROM payments
+            WHERE is_paid = 0 AND due_date < ?
+            ON DUPLICATE KEY UPDATE units_id = VALUES(units_id), amount = VALUES(amount),
+                due_date = VALUES(due_date), last_seen_at = VALUES(last_seen_at)
+            """;
+    private static final String SCAN_UTILITIES = """
+            INSERT INTO overdue_items (source, source_id, units_id, amount, due_date, last_seen_at)
+            SELECT 'utility', id, units_id, total_amount, due_date, ?
+            FROM utilities
+            WHERE is_paid = 0 AND due_date < ?
+            ON DUPLICATE KEY UPDATE units_id = VALUES(units_id), amount = VALUES(amount),
+                due_date = VALUES(due_date), last_seen_at = VALUES(last_seen_at)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Brings overdue_items in line with the ledgers as of today: everything still unpaid
+    // past its due date is upserted and stamped with this scan, anything not stamped
+    // (paid, deleted or given a later due date since) is removed. detected_at is kept
+    // from the first scan that saw the item.
+    @Transactional
+    public int refresh(LocalDate today, Instant scannedAt) {
+        // last_seen_at keeps microseconds, so back-to-back scans get distinct stamps; truncate
+        // to that precision so the DELETE compares against exactly the value that was stored
+        Timestamp scan = Timestamp.from(scannedAt.truncatedTo(ChronoUnit.MICROS));
+        jdbcTemplate.update(SCAN_PAYMENTS, scan, today);
+        jdbcTemplate.update(SCAN_UTILITIES, scan, today);
+        jdbcTemplate.update("DELETE FROM overdue_items WHERE last_seen_at <> ?", scan);
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM overdue_items", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    // oldest due date first; source, bucket and unit are optional filters
+    @Transactional(readOnly = true)
+    public CursorPage<OverdueItem> findPage(String source, AgingBucket bucket, Integer unitId, String cursor,
+            int limit, LocalDate today) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM overdue_items WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (source != null) {
+            sql.append(" AND source = ?");
+            args.add(validSource(source));
+        }
+        if (bucket != null) {
+            // a bucket is a due date range relative to today
+            sql.append(" AND due_date <= ?");
+            args.add(today.minusDays(bucket.getMinDays()));
+            if (bucket.getMaxDays() != Integer.MAX_VALUE) {
+                sql.append(" AND due_date >= ?");
+                args.add(today.minusDays(bucket.getMaxDays()));
+            }
+        }
+        if (unitId != null) {
+            sql.append(" AND units_id = ?");
+            args.add(unitId);
+        }
+        if (cursor != null) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            LocalDate afterDate;
+            String afterSource;
+            try {
+                String[] key = after.getKey().split(":", 2);
+                afterDate = LocalDate.parse(key[0]);
+                afterSource = validSource(key[1]);
+            } catch (DateTimeParseException | ArrayIndexOutOfBoundsException | ErrorException e) {
+                throw new ErrorException("Invalid cursor.");
+            }
+            sql.append(" AND (due_date > ? OR (due_date = ? AND (source > ? OR (source = ? AND source_id > ?))))");
+            args.add(afterDate);
+            args.add(afterDate);
+            args.add(afterSource);
+            args.add(afterSource);
+            args.add(after.getId());
+        }
+        // one extra row tells us whether another page exists
+        sql.append(" ORDER BY due_date ASC, source ASC, source_id ASC LIMIT ?");
+        args.add(limit + 1);
+
+        List<OverdueItem> rows = jdbcTemplate.query(sql.toString(), OverdueItemRowMapper.INSTANCE, args.toArray());
+        for (OverdueItem item : rows) {
+            long days = ChronoUnit.DAYS.between(item.getDueDate(), today);
+            item.setDaysOverdue(days);
+            item.setAgingBucket(AgingBucket.of(days));
+        }
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            OverdueItem last = rows.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getDueDate() + ":" + last.getSource(), last.getSourceId()).encode();
+        }
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    // count and amount per bucket, every bucket listed even when empty, with the stamp of the
+    // latest scan read from the table so it holds on every instance, whichever one ran the scan
+    @Transactional(readOnly = true)
+    public OverdueSummary summarize(String source, LocalDate today) {
+        String sql = """
+                SELECT
+                    CASE
+                        WHEN due_date >= ? THEN 'DAYS_1_30'
+                        WHEN due_date >= ? THEN 'DAYS_31_60'
+                        WHEN due_date >= ? THEN 'DAYS_61_90'
+                        ELSE 'OVER_90'
+                    END AS bucket,
+                    COUNT(*) AS total,
+                    COALESCE(SUM(amount), 0) AS amount
+                FROM overdue_items
+                """ + (source != null ? "WHERE source = ?\n" : "") + "GROUP BY bucket";
+        List<Object> args = new ArrayList<>(List.of(
+                today.minusDays(AgingBucket.DAYS_1_30.getMaxDays()),
+                today.minusDays(AgingBucket.DAYS_31_60.getMaxDays()),
+                today.minusDays(AgingBucket.DAYS_61_90.getMaxDays())));
+        if (source != null) {
+            args.add(validSource(source));
+        }
+
+        Map<AgingBucket, OverdueBucketTotal> totals = new EnumMap<>(AgingBucket.class);
+        for (AgingBucket bucket : AgingBucket.values()) {
+            totals.put(bucket, new OverdueBucketTotal(bucket, 0, 0f));
+        }
+        jdbcTemplate.query(sql, rs -> {
+            AgingBucket bucket = AgingBucket.valueOf(rs.getString("bucket"));
+            totals.put(bucket, new OverdueBucketTotal(bucket, rs.getLong("total"), rs.getFloat("amount")));
+        }, args.toArray());
+        Timestamp scannedAt = jdbcTemplate.queryForObject("SELECT MAX(last_seen_at) FROM overdue_items",
+                Timestamp.class);
+        return new OverdueSummary(scannedAt != null ? scannedAt.toInstant() : null,
+                new ArrayList<>(totals.values()));
+    }
+
+    private static String validSource(String source) {
+        if (!OverdueItem.PAYMENT.equals(source) && !OverdueItem.UTILITY.equals(source)) {
+            throw new ErrorException("Invalid source. Must be one of: payment, utility");
+        }
+        return source;
+    }
+}
@@ -1,6 +1,10 @@
 package com.jjapartments.backend.repository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -9,77 +13,115 @@ import org.springframework.stereotype.Repository;
 import org.springframework.dao.EmptyResultDataAccessException;
 
 import com.jjapartments.backend.models.Payment;
+import com.jjapartments.backend.repository.LedgerBalanceRepository.Column;
+import com.jjapartments.backend.repository.LedgerBalanceRepository.Posting;
 import com.jjapartments.backend.mappers.PaymentRowMapper;
 import com.jjapartments.backend.exception.ErrorException;
+import com.jjapartments.backend.util.JdbcInsert;
+import com.jjapartments.backend.util.JdbcStreaming;
+import com.jjapartments.backend.util.LedgerFilter;
 
 @Repository
 public class PaymentRepository{
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private LedgerBalanceRepository ledgerBalanceRepository;
 
     @Transactional(readOnly = true)
     public List<Payment> findAll() {
         String sql = "SELECT * FROM payments ORDER BY is_paid ASC, COALESCE(due_date, month_of_end) ASC"; 
-        return jdbcTemplate.query(sql, new PaymentRowMapper());
+        return jdbcTemplate.query(sql, PaymentRowMapper.INSTANCE);
     }
 
-    public Payment add(Payment payment) {
+    public void validate(Payment payment) {
         if (payment.getAmount() <= 0) {
             throw new ErrorException("Amount cannot be ₱0 or below");
         }
+        if (payment.getMonthOfStart() == null || payment.getMonthOfEnd() == null) {
+            throw new ErrorException("Month of start and month of end are required");
+        }
         if (payment.getMonthOfEnd().compareTo(payment.getMonthOfStart()) < 0) {
             throw new ErrorException("Month of end cannot be earlier than month of start");
         }
+    }
+
+    // a payment counts towards the month it was paid in
+    private static Posting posting(Payment payment) {
+        return payment.getIsPaid() ? Posting.of(payment.getUnitId(), payment.getPaidAt(), payment.getAmount()) : null;
+    }
+
+    private Payment findForUpdate(int id) {
+        List<Payment> rows = jdbcTemplate.query("SELECT * FROM payments WHERE id = ? FOR UPDATE", PaymentRowMapper.INSTANCE, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Transactional
+    public Payment add(Payment payment) {
+        validate(payment);
         String sql = "INSERT INTO payments(units_id, mode_of_payment, amount, due_date, month_of_start, month_of_end, is_paid, paid_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, payment.getUnitId(), payment.getModeOfPayment(), payment.getAmount(), payment.getDueDate(), payment.getMonthOfStart(), payment.getMonthOfEnd(), payment.getIsPaid(), payment.getPaidAt());
-     
-        String fetchSql = """
-            SELECT * FROM payments
-            WHERE units_id = ?
-            AND mode_of_payment = ?
-            AND amount = ?
-            AND due_date = ?
-            AND month_of_start = ?
-            AND month_of_end = ?
-            AND is_paid = ?
-            AND (paid_at = ? OR (paid_at IS NULL AND ? IS NULL))
-            ORDER BY id DESC
-            LIMIT 1
-        """;
-
-        return jdbcTemplate.queryForObject(
-            fetchSql,
-            new PaymentRowMapper(),
-            payment.getUnitId(),
-            payment.getModeOfPayment(),
-            payment.getAmount(),
-            payment.getDueDate(),
-            payment.getMonthOfStart(),
-            payment.getMonthOfEnd(),
-            payment.getIsPaid(),
-            payment.getIsPaid(),
-            payment.getPaidAt()
-        );
+        int id = JdbcInsert.insertReturningId(jdbcTemplate, sql, payment.getUnitId(), payment.getModeOfPayment(), payment.getAmount(), payment.getDueDate(), payment.getMonthOfStart(), payment.getMonthOfEnd(), payment.getIsPaid(), payment.getPaidAt());
+        payment.setId(id);
+        ledgerBalanceRepository.post(Column.PAYMENTS, posting(payment));
+        return payment;
+
+    }
 
+    // same rules as add, plus a unit check against a snapshot taken once per import
+    public Consumer<Payment> importValidator() {
+        Set<Integer> unitIds = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM units", Integer.class));
+        return payment -> {
+            validate(payment);
+            if (!unitIds.contains(payment.getUnitId())) {
+                throw new ErrorException("Unit with id " + payment.getUnitId() + " not found.");
+            }
+        };
     }
 
+    @Transactional
+    public int[] addAll(List<Payment> payments) {
+        String sql = "INSERT INTO payments(units_id, mode_of_payment, amount, due_date, month_of_start, month_of_end, is_paid, paid_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> args = new ArrayList<>(payments.size());
+        for (Payment payment : payments) {
+            args.add(new Object[] { payment.getUnitId(), payment.getModeOfPayment(), payment.getAmount(), payment.getDueDate(), payment.getMonthOfStart(), payment.getMonthOfEnd(), payment.getIsPaid(), payment.getPaidAt() });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+        ledgerBalanceRepository.postAll(Column.PAYMENTS, payments.stream().map(PaymentRepository::posting).toList());
+        return counts;
+    }
+
+    // cursor-backed read for exports; rows are mapped and handed over one at a time
+    public void streamLedger(LedgerFilter filter, Consumer<Payment> action) {
+        String sql = "SELECT * FROM payments" + filter.where("month_of_start") + " ORDER BY month_of_start ASC, id ASC";
+        JdbcStreaming.query(jdbcTemplate, sql, rs -> action.accept(PaymentRowMapper.INSTANCE.mapRow(rs, rs.getRow())), filter.args());
+    }
+
+    @Transactional
     public int delete(int id) {
+        Payment existing = findForUpdate(id);
+        if (existing == null) {
+            return 0;
+        }
         String sql = "DELETE FROM payments WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+        int rows = jdbcTemplate.update(sql, id);
+        ledgerBalanceRepository.reverse(Column.PAYMENTS, posting(existing));
+        return rows;
     }
 
     public Payment findById(int id) {
         String sql = "SELECT * FROM payments WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new PaymentRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, PaymentRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Payment with id " + id + " not found.");
         }
     }
 
+    @Transactional
     public int update(int id, Payment payment) {
-        if (findById(id) == null) {
-            throw new ErrorException("Expense not found");
+        Payment existing = findForUpdate(id);
+        if (existing == null) {
+            throw new ErrorException("Payment with id " + id + " not found.");
         }
         if (payment.getAmount() < 0) {
             throw new ErrorException("Amount cannot be below ₱0");
@@ -87,12 +129,21 @@ public class PaymentRepository{
         
         String sql = "UPDATE payments SET mode_of_payment = ?, amount = ?, due_date = ?, month_of_start = ?, month_of_end = ?, "
         + "is_paid = ?, paid_at = ? WHERE id = ?";
-        return jdbcTemplate.update(sql,  payment.getModeOfPayment(), payment.getAmount(), payment.getDueDate(), payment.getMonthOfStart(), payment.getMonthOfEnd(), payment.getIsPaid(), payment.getPaidAt(), id);
+        int rows = jdbcTemplate.update(sql,  payment.getModeOfPayment(), payment.getAmount(), payment.getDueDate(), payment.getMonthOfStart(), payment.getMonthOfEnd(), payment.getIsPaid(), payment.getPaidAt(), id);
+        // units_id is not updatable here, so the new contribution stays on the same unit
+        payment.setUnitId(existing.getUnitId());
+        ledgerBalanceRepository.replace(Column.PAYMENTS, posting(existing), posting(payment));
+        return rows;
+    }
+
+    // newest billing periods first; served by idx_payments_unit_period
+    @Transactional(readOnly = true)
+    public List<Payment> findRecentByUnit(int unitId, int limit) {
+        String sql = "SELECT * FROM payments WHERE units_id = ? ORDER BY month_of_start DESC, id DESC LIMIT ?";
+        return jdbcTemplate.query(sql, PaymentRowMapper.INSTANCE, unitId, limit);
     }
 
     public float getMonthlyAmountByUnitId(int id, int year, int month) {
-        String sql = "SELECT COALESCE(SUM(amount), 0) FROM payments WHERE units_id = ? AND is_paid = 1 AND YEAR(paid_at) = ? AND MONTH(paid_at) = ?";
-        Float amount = jdbcTemplate.queryForObject(sql, Float.class, id, year, month);
-        return amount != null? amount : 0.0f;
+        return ledgerBalanceRepository.findAmount(Column.PAYMENTS, id, year, month);
     }
 }
\ No newline at end of file
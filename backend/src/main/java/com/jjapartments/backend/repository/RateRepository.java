@@ -11,16 +11,20 @@ import org.springframework.stereotype.Repository;
 import com.jjapartments.backend.models.Rate;
 import com.jjapartments.backend.mappers.RateRowMapper;
 import com.jjapartments.backend.exception.ErrorException;
+import com.jjapartments.backend.util.JdbcInsert;
+import com.jjapartments.backend.util.RateCache;
 
 @Repository
 public class RateRepository{
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RateCache rateCache;
 
     @Transactional(readOnly = true)
     public List<Rate> findAll() {
         String sql = "SELECT * FROM rates"; 
-        return jdbcTemplate.query(sql, new RateRowMapper());
+        return jdbcTemplate.query(sql, RateRowMapper.INSTANCE);
     }
 
     public Rate add(Rate rate) {
@@ -32,35 +36,23 @@ public class RateRepository{
             throw new ErrorException("Amount cannot be 0 or below");
         }
         String sql = "INSERT INTO rates(type, rate, date) VALUES (?, ?, ?)";
-        jdbcTemplate.update(sql, rate.getType(), rate.getRate(), rate.getDate());
-
-        String fetchSql = """
-            SELECT * FROM rates
-            WHERE type = ?
-            AND rate = ?
-            AND date = ?
-            ORDER BY id DESC
-            LIMIT 1
-        """;
-
-        return jdbcTemplate.queryForObject(
-            fetchSql,
-            new RateRowMapper(),
-            rate.getType(),
-            rate.getRate(),
-            rate.getDate()
-        );
+        int id = JdbcInsert.insertReturningId(jdbcTemplate, sql, rate.getType(), rate.getRate(), rate.getDate());
+        rate.setId(id);
+        rateCache.invalidate();
+        return rate;
     }
 
     public int delete(int id) {
         String sql = "DELETE FROM rates WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+        int result = jdbcTemplate.update(sql, id);
+        rateCache.invalidate();
+        return result;
     }
 
     public Rate findById(int id) {
         String sql = "SELECT * FROM rates WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new RateRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, RateRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Rate with id " + id + " not found.");
         }
@@ -81,22 +73,17 @@ public class RateRepository{
         }
         
         String sql = "UPDATE rates SET type = ?, rate = ?, date = ? WHERE id = ?";
-        return jdbcTemplate.update(sql, rate.getType(), rate.getRate(), rate.getDate(), id);
+        int result = jdbcTemplate.update(sql, rate.getType(), rate.getRate(), rate.getDate(), id);
+        rateCache.invalidate();
+        return result;
     }
 
     public Rate findLatestByType(String type) {
-        try {
-            String sql = "SELECT * FROM rates WHERE type = ? ORDER BY date DESC LIMIT 1";
-            List<Rate> results = jdbcTemplate.query(sql, new RateRowMapper(), type);
-            return results.isEmpty() ? null : results.get(0);
-        } catch (EmptyResultDataAccessException e) {
-            throw new ErrorException("Rate not found for type: " + type);
-        }
-        
+        return rateCache.findLatestByType(type);
     }
 
     public List<Rate> findByType(String type) {
         String sql = "SELECT * FROM rates WHERE type = ? ORDER BY date DESC";
-        return jdbcTemplate.query(sql, new RateRowMapper(), type);
+        return jdbcTemplate.query(sql, RateRowMapper.INSTANCE, type);
     }
 }   
\ No newline at end of file
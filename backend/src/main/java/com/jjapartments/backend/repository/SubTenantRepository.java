@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import com.jjapartments.backend.models.SubTenant;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.mappers.SubTenantRowMapper;
+import com.jjapartments.backend.util.JdbcInsert;
 
 @Repository
 public class SubTenantRepository {
@@ -20,61 +21,70 @@ public class SubTenantRepository {
     @Transactional(readOnly = true)
     public List<SubTenant> findAll() {
         String sql = "SELECT * FROM sub_tenants";
-        return jdbcTemplate.query(sql, new SubTenantRowMapper());
+        return jdbcTemplate.query(sql, SubTenantRowMapper.INSTANCE);
     }
 
+    // keep the stored occupancy count of the unit where the main tenant is active in step
+    private void adjustOccupants(int mainTenantId, int delta) {
+        String sql = "UPDATE units SET curr_occupants = curr_occupants + ? WHERE active_tenant_id = ?";
+        jdbcTemplate.update(sql, delta, mainTenantId);
+    }
+
+    @Transactional
     public SubTenant add(SubTenant subTenant) {
         String sql = "INSERT INTO sub_tenants(last_name, first_name, middle_initial, phone_number, messenger_link, main_tenant_id) VALUES (?, ?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, subTenant.getLastName(), subTenant.getFirstName(), subTenant.getMiddleInitial(),
+        int id = JdbcInsert.insertReturningId(jdbcTemplate, sql, subTenant.getLastName(), subTenant.getFirstName(), subTenant.getMiddleInitial(),
                 subTenant.getPhoneNumber(), subTenant.getMessengerLink(), subTenant.getMainTenantId());
-
-        String fetchSql = """
-                    SELECT * FROM sub_tenants
-                    WHERE last_name = ?
-                    AND first_name = ?
-                    AND middle_initial <=> ?
-                    AND phone_number = ?
-                    AND messenger_link <=> ?
-                    AND main_tenant_id = ?
-                    ORDER BY id DESC
-                    LIMIT 1
-                """;
-
-        return jdbcTemplate.queryForObject(
-                fetchSql,
-                new SubTenantRowMapper(),
-                subTenant.getLastName(),
-                subTenant.getFirstName(),
-                subTenant.getMiddleInitial(),
-                subTenant.getPhoneNumber(),
-                subTenant.getMessengerLink(),
-                subTenant.getMainTenantId());
+        adjustOccupants(subTenant.getMainTenantId(), 1);
+        subTenant.setId(id);
+        return subTenant;
     }
 
+    @Transactional
     public int delete(int id) {
+        List<Integer> mainTenantIds = jdbcTemplate.queryForList(
+                "SELECT main_tenant_id FROM sub_tenants WHERE id = ?", Integer.class, id);
+        if (mainTenantIds.isEmpty()) {
+            return 0;
+        }
+
         String sql = "DELETE FROM sub_tenants WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+        int result = jdbcTemplate.update(sql, id);
+        if (result > 0) {
+            adjustOccupants(mainTenantIds.get(0), -1);
+        }
+        return result;
     }
 
     public SubTenant findById(int id) {
         String sql = "SELECT * FROM sub_tenants WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new SubTenantRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, SubTenantRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Sub-tenant with id " + id + " not found.");
         }
     }
 
+    @Transactional
     public int update(int id, SubTenant subTenant) {
+        SubTenant existingSubTenant = findById(id);
+
         String sql = "UPDATE sub_tenants SET last_name = ?, first_name = ?, middle_initial = ?, phone_number = ?, messenger_link = ?, main_tenant_id = ? WHERE id = ?";
-        return jdbcTemplate.update(sql, subTenant.getLastName(), subTenant.getFirstName(), subTenant.getMiddleInitial(),
+        int result = jdbcTemplate.update(sql, subTenant.getLastName(), subTenant.getFirstName(), subTenant.getMiddleInitial(),
                 subTenant.getPhoneNumber(), subTenant.getMessengerLink(), subTenant.getMainTenantId(), id);
+
+        // moving to another main tenant shifts one occupant between their units
+        if (result > 0 && existingSubTenant.getMainTenantId() != subTenant.getMainTenantId()) {
+            adjustOccupants(existingSubTenant.getMainTenantId(), -1);
+            adjustOccupants(subTenant.getMainTenantId(), 1);
+        }
+        return result;
     }
 
     @Transactional(readOnly = true)
     public List<SubTenant> findByMainTenantId(int mainTenantId) {
         String sql = "SELECT * FROM sub_tenants WHERE main_tenant_id = ?";
-        return jdbcTemplate.query(sql, new SubTenantRowMapper(), mainTenantId);
+        return jdbcTemplate.query(sql, SubTenantRowMapper.INSTANCE, mainTenantId);
     }
 
     @Transactional(readOnly = true)
@@ -85,6 +95,6 @@ public class SubTenantRepository {
                     INNER JOIN tenants t ON st.main_tenant_id = t.id
                     WHERE t.units_id = ?
                 """;
-        return jdbcTemplate.query(sql, new SubTenantRowMapper(), unitId);
+        return jdbcTemplate.query(sql, SubTenantRowMapper.INSTANCE, unitId);
     }
 }
\ No newline at end of file
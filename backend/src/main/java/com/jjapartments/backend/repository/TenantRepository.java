@@ -1,10 +1,9 @@
 package com.jjapartments.backend.repository;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
-import java.sql.Date;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -12,9 +11,12 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Repository;
 
+import com.jjapartments.backend.dto.CursorPage;
 import com.jjapartments.backend.models.Tenant;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.mappers.TenantRowMapper;
+import com.jjapartments.backend.util.JdbcInsert;
+import com.jjapartments.backend.util.KeysetCursor;
 
 @Repository
 public class TenantRepository {
@@ -25,20 +27,15 @@ public class TenantRepository {
     public List<Tenant> findAll() {
         String sql = """
                 SELECT * FROM tenants
-                ORDER BY
-                    CASE WHEN move_out_date IS NULL THEN 0 ELSE 1 END,
-                    CASE
-                        WHEN move_out_date IS NULL THEN move_in_date
-                        ELSE move_out_date
-                    END DESC
+                ORDER BY is_moved_out ASC, sort_date DESC, id DESC
                 """;
-        return jdbcTemplate.query(sql, new TenantRowMapper());
+        return jdbcTemplate.query(sql, TenantRowMapper.INSTANCE);
     }
 
     @Transactional(readOnly = true)
     public List<Tenant> findByUnitId(int unitId) {
         String sql = "SELECT * FROM tenants WHERE units_id = ?";
-        return jdbcTemplate.query(sql, new TenantRowMapper(), unitId);
+        return jdbcTemplate.query(sql, TenantRowMapper.INSTANCE, unitId);
     }
 
     // check if unit ID exists in database
@@ -59,29 +56,27 @@ public class TenantRepository {
         }
     }
 
-    // update unit's active tenant
+    // update unit's active tenant and its stored occupancy count (tenant + sub-tenants)
     private void setActiveTenantonUnit(int unitId, Integer tenantId) {
-        String sql = "UPDATE units SET active_tenant_id = ? WHERE id = ?";
-        jdbcTemplate.update(sql, tenantId, unitId);
+        if (tenantId == null) {
+            String sql = "UPDATE units SET active_tenant_id = NULL, curr_occupants = 0 WHERE id = ?";
+            jdbcTemplate.update(sql, unitId);
+            return;
+        }
+        String sql = """
+                UPDATE units
+                SET active_tenant_id = ?,
+                    curr_occupants = 1 + (SELECT COUNT(*) FROM sub_tenants WHERE main_tenant_id = ?)
+                WHERE id = ?
+                """;
+        jdbcTemplate.update(sql, tenantId, tenantId, unitId);
     }
 
-    // validate ISO 8601 date format (YYYY-MM-DD)
-    private void validateMoveInDate(String moveInDate) {
+    // the ISO 8601 format itself (YYYY-MM-DD) is enforced when the request body is read
+    private void validateMoveInDate(LocalDate moveInDate) {
         if (moveInDate == null) {
             throw new ErrorException("Move-in date is required.");
         }
-
-        String trimmedDate = moveInDate.trim();
-        if (trimmedDate.isEmpty()) {
-            throw new ErrorException("Move-in date is required.");
-        }
-
-        try {
-            // parse as ISO 8601 DATE string (YYYY-MM-DD)
-            LocalDate.parse(trimmedDate, DateTimeFormatter.ISO_LOCAL_DATE);
-        } catch (DateTimeParseException e) {
-            throw new ErrorException("Invalid move-in date format. Expected ISO 8601 date format (e.g., 2025-10-31).");
-        }
     }
 
     // validate required tenant fields
@@ -118,43 +113,13 @@ public class TenantRepository {
         }
 
         String sql = "INSERT INTO tenants(last_name, first_name, middle_initial, email, phone_number, messenger_link, units_id, move_in_date, move_out_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, tenant.getLastName(), tenant.getFirstName(), tenant.getMiddleInitial(),
-                tenant.getEmail(), tenant.getPhoneNumber(), tenant.getMessengerLink(), tenant.getUnitId(),
-                tenant.getMoveInDate(), null);
+        int id = JdbcInsert.insertReturningId(jdbcTemplate, sql, tenant.getLastName(), tenant.getFirstName(),
+                tenant.getMiddleInitial(), tenant.getEmail(), tenant.getPhoneNumber(), tenant.getMessengerLink(),
+                tenant.getUnitId(), tenant.getMoveInDate(), null);
+        tenant.setId(id);
 
-        String fetchSql = """
-                    SELECT * FROM tenants
-                    WHERE last_name = ?
-                    AND first_name = ?
-                    AND middle_initial <=> ?
-                    AND email = ?
-                    AND phone_number = ?
-                    AND messenger_link <=> ?
-                    AND units_id = ?
-                    AND move_in_date <=> ?
-                    AND move_out_date IS NULL
-                    ORDER BY id DESC
-                    LIMIT 1
-                """;
-
-        Tenant createdTenant = jdbcTemplate.queryForObject(
-                fetchSql,
-                new TenantRowMapper(),
-                tenant.getLastName(),
-                tenant.getFirstName(),
-                tenant.getMiddleInitial(),
-                tenant.getEmail(),
-                tenant.getPhoneNumber(),
-                tenant.getMessengerLink(),
-                tenant.getUnitId(),
-                tenant.getMoveInDate());
-
-        if (createdTenant == null) {
-            throw new ErrorException("Failed to create tenant record.");
-        }
-
-        setActiveTenantonUnit(tenant.getUnitId(), createdTenant.getId());
-        return createdTenant;
+        setActiveTenantonUnit(tenant.getUnitId(), id);
+        return tenant;
     }
 
     @Transactional
@@ -163,16 +128,16 @@ public class TenantRepository {
         Tenant tenant = findById(id);
         int unitId = tenant.getUnitId();
 
+        // check before deleting, since the FK clears active_tenant_id on delete
+        String checkActiveSql = "SELECT active_tenant_id FROM units WHERE id = ?";
+        Integer activeTenantId = jdbcTemplate.queryForObject(checkActiveSql, Integer.class, unitId);
+
         String sql = "DELETE FROM tenants WHERE id = ?";
         int result = jdbcTemplate.update(sql, id);
 
-        // if this was an active tenant, clear active_tenant_id
-        if (result > 0) {
-            String checkActiveSql = "SELECT active_tenant_id FROM units WHERE id = ?";
-            Integer activeTenantId = jdbcTemplate.queryForObject(checkActiveSql, Integer.class, unitId);
-            if (activeTenantId != null && activeTenantId == id) {
-                setActiveTenantonUnit(unitId, null);
-            }
+        // if this was an active tenant, clear active_tenant_id and the occupancy count
+        if (result > 0 && activeTenantId != null && activeTenantId == id) {
+            setActiveTenantonUnit(unitId, null);
         }
 
         return result;
@@ -181,7 +146,7 @@ public class TenantRepository {
     public Tenant findById(int id) {
         String sql = "SELECT * FROM tenants WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new TenantRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, TenantRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Tenant with id " + id + " not found.");
         }
@@ -193,23 +158,12 @@ public class TenantRepository {
         int oldUnitId = existingTenant.getUnitId();
         int newUnitId = tenant.getUnitId();
 
-        String newMoveOutDateRaw = tenant.getMoveOutDate();
-        boolean hasMoveOutPayload = newMoveOutDateRaw != null && !newMoveOutDateRaw.trim().isEmpty();
-        boolean shouldApplyMoveOut = hasMoveOutPayload && existingTenant.getMoveOutDate() == null;
-        LocalDate parsedMoveOutDate = null;
-
-        if (hasMoveOutPayload) {
-            String trimmedMoveOutDate = newMoveOutDateRaw.trim();
-            if (shouldApplyMoveOut) {
-                try {
-                    parsedMoveOutDate = LocalDate.parse(trimmedMoveOutDate, DateTimeFormatter.ISO_LOCAL_DATE);
-                } catch (DateTimeParseException e) {
-                    throw new ErrorException(
-                            "Invalid move-out date format. Expected ISO 8601 date format (e.g., 2025-10-31).");
-                }
-            } else if (!trimmedMoveOutDate.equals(existingTenant.getMoveOutDate())) {
-                throw new ErrorException("Tenant has already moved out.");
-            }
+        LocalDate newMoveOutDate = tenant.getMoveOutDate();
+        boolean shouldApplyMoveOut = newMoveOutDate != null && existingTenant.getMoveOutDate() == null;
+
+        if (newMoveOutDate != null && !shouldApplyMoveOut
+                && !newMoveOutDate.equals(existingTenant.getMoveOutDate())) {
+            throw new ErrorException("Tenant has already moved out.");
         }
 
         if (oldUnitId != newUnitId) {
@@ -236,8 +190,8 @@ public class TenantRepository {
             }
         }
 
-        if (shouldApplyMoveOut && parsedMoveOutDate != null) {
-            updateMoveOut(id, parsedMoveOutDate);
+        if (shouldApplyMoveOut) {
+            updateMoveOut(id, newMoveOutDate);
         }
 
         return result;
@@ -249,26 +203,21 @@ public class TenantRepository {
         }
     }
 
+    @Transactional
     public Tenant updateMoveOut(int id, LocalDate moveOutDate) {
         Tenant tenant = findById(id);
         if (tenant.getMoveOutDate() != null) {
             throw new ErrorException("Tenant has already moved out.");
         }
 
-        LocalDate moveInDate;
-        try {
-            moveInDate = LocalDate.parse(tenant.getMoveInDate(), DateTimeFormatter.ISO_LOCAL_DATE);
-        } catch (DateTimeParseException e) {
-            throw new ErrorException("Invalid move-in date format in database.");
+        if (tenant.getMoveInDate() != null) {
+            validateMoveOutDate(tenant.getMoveInDate(), moveOutDate);
         }
 
-        validateMoveOutDate(moveInDate, moveOutDate);
-
         String sql = "UPDATE tenants SET move_out_date = ? WHERE id = ?";
-        jdbcTemplate.update(sql, Date.valueOf(moveOutDate), id);
+        jdbcTemplate.update(sql, moveOutDate, id);
 
-        String updateUnitSql = "UPDATE units SET active_tenant_id = NULL WHERE id = ?";
-        jdbcTemplate.update(updateUnitSql, tenant.getUnitId());
+        setActiveTenantonUnit(tenant.getUnitId(), null);
 
         return findById(id);
     }
@@ -280,7 +229,7 @@ public class TenantRepository {
                 WHERE move_out_date IS NULL
                 ORDER BY move_in_date DESC, first_name ASC, last_name ASC
                 """;
-        return jdbcTemplate.query(sql, new TenantRowMapper());
+        return jdbcTemplate.query(sql, TenantRowMapper.INSTANCE);
     }
 
     @Transactional(readOnly = true)
@@ -290,7 +239,58 @@ public class TenantRepository {
                 WHERE move_out_date IS NOT NULL
                 ORDER BY move_out_date DESC, first_name ASC, last_name ASC
                 """;
-        return jdbcTemplate.query(sql, new TenantRowMapper());
+        return jdbcTemplate.query(sql, TenantRowMapper.INSTANCE);
+    }
+
+    // Keyset page in idx_tenants_listing order: current tenants by move-in date, then
+    // former tenants by move-out date, newest first. movedOut narrows to one group.
+    // The cursor key is "<is_moved_out>:<sort_date>" of the last row returned.
+    @Transactional(readOnly = true)
+    public CursorPage<Tenant> findPage(Boolean movedOut, String cursor, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM tenants WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (movedOut != null) {
+            sql.append(" AND is_moved_out = ?");
+            args.add(movedOut ? 1 : 0);
+        }
+        if (cursor != null) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            int afterMovedOut;
+            LocalDate afterDate;
+            try {
+                String[] key = after.getKey().split(":", 2);
+                afterMovedOut = Integer.parseInt(key[0]);
+                afterDate = LocalDate.parse(key[1]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+                throw new ErrorException("Invalid cursor.");
+            }
+            sql.append(" AND (is_moved_out > ? OR (is_moved_out = ? AND (sort_date < ? OR (sort_date = ? AND id < ?))))");
+            args.add(afterMovedOut);
+            args.add(afterMovedOut);
+            args.add(afterDate);
+            args.add(afterDate);
+            args.add(after.getId());
+        }
+        // one extra row tells us whether another page exists
+        sql.append(" ORDER BY is_moved_out ASC, sort_date DESC, id DESC LIMIT ?");
+        args.add(limit + 1);
+
+        List<Tenant> rows = jdbcTemplate.query(sql.toString(), TenantRowMapper.INSTANCE, args.toArray());
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Tenant last = rows.get(limit - 1);
+            nextCursor = new KeysetCursor(sortKey(last), last.getId()).encode();
+        }
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    // same values the is_moved_out / sort_date generated columns hold
+    private String sortKey(Tenant tenant) {
+        if (tenant.getMoveOutDate() != null) {
+            return "1:" + tenant.getMoveOutDate();
+        }
+        return "0:" + (tenant.getMoveInDate() != null ? tenant.getMoveInDate() : "1000-01-01");
     }
 
     @Transactional(readOnly = true)
@@ -302,6 +302,6 @@ public class TenantRepository {
                     ORDER BY move_out_date DESC
                 """;
 
-        return jdbcTemplate.query(sql, new TenantRowMapper(), unitId);
+        return jdbcTemplate.query(sql, TenantRowMapper.INSTANCE, unitId);
     }
 }
\ No newline at end of file
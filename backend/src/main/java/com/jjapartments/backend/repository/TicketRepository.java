@@ -4,7 +4,8 @@ import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.time.format.DateTimeParseException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -18,10 +19,15 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.jjapartments.backend.dto.CursorPage;
+import com.jjapartments.backend.dto.TicketSummary;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.mappers.TicketRowMapper;
+import com.jjapartments.backend.mappers.TicketSummaryRowMapper;
+import com.jjapartments.backend.models.Category;
 import com.jjapartments.backend.models.Status;
 import com.jjapartments.backend.models.Ticket;
+import com.jjapartments.backend.util.KeysetCursor;
 
 @Repository
 public class TicketRepository {
@@ -83,8 +89,8 @@ public class TicketRepository {
         String categoryLabel = ticket.getCategory() != null ? ticket.getCategory().getLabel() : null;
         String statusLabel = ticket.getStatus() != null ? ticket.getStatus().getLabel() : Status.PENDING.getLabel();
 
-        Timestamp submittedAt = toTimestamp(ticket.getSubmittedAt(), "submittedAt");
-        final Timestamp statusUpdatedAt = toTimestamp(ticket.getStatusUpdatedAt(), "statusUpdatedAt");
+        Timestamp submittedAt = toTimestamp(ticket.getSubmittedAt());
+        final Timestamp statusUpdatedAt = toTimestamp(ticket.getStatusUpdatedAt());
         final Timestamp resolvedStatusUpdatedAt = statusUpdatedAt != null ? statusUpdatedAt : submittedAt;
 
         KeyHolder keyHolder = new GeneratedKeyHolder();
@@ -143,7 +149,7 @@ public class TicketRepository {
     public List<Ticket> findAll() {
         try {
             return jdbcTemplate.query("SELECT * FROM tickets ORDER BY submitted_at DESC",
-                    new TicketRowMapper());
+                    TicketRowMapper.INSTANCE);
         } catch (DataAccessException e) {
             logger.error("Error fetching all tickets", e);
             throw new ErrorException("Database error while fetching tickets: " + e.getMessage());
@@ -157,18 +163,143 @@ public class TicketRepository {
         }
         String sql = "SELECT * FROM tickets WHERE status = ? ORDER BY submitted_at DESC";
         try {
-            return jdbcTemplate.query(sql, new TicketRowMapper(), status.getLabel());
+            return jdbcTemplate.query(sql, TicketRowMapper.INSTANCE, status.getLabel());
         } catch (DataAccessException e) {
             logger.error("Error fetching tickets by status: {}", status, e);
             throw new ErrorException("Database error while fetching tickets by status: " + e.getMessage());
         }
     }
 
+    // Keyset page ordered newest first. The cursor carries the (submitted_at, id) of the
+    // last row sent, so each page is an index range scan on (status|category, submitted_at)
+    // or (submitted_at) instead of an OFFSET that re-reads every earlier row.
+    @Transactional(readOnly = true)
+    public CursorPage<TicketSummary> findPage(Status status, Category category, String apartmentName,
+            LocalDate from, LocalDate to, KeysetCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, unit_number, apartment_name, name, category, subject, status,
+                       submitted_at, status_updated_at, status_updated_by
+                FROM tickets
+                WHERE 1 = 1
+                """);
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.getLabel());
+        }
+        if (category != null) {
+            sql.append(" AND category = ?");
+            args.add(category.getLabel());
+        }
+        if (apartmentName != null) {
+            sql.append(" AND apartment_name = ?");
+            args.add(apartmentName);
+        }
+        if (from != null) {
+            sql.append(" AND submitted_at >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(" AND submitted_at < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        if (after != null) {
+            Timestamp afterSubmittedAt = Timestamp.from(Instant.parse(after.getKey()));
+            sql.append(" AND (submitted_at < ? OR (submitted_at = ? AND id < ?))");
+            args.add(afterSubmittedAt);
+            args.add(afterSubmittedAt);
+            args.add(after.getId());
+        }
+        // one extra row tells us whether another page exists
+        sql.append(" ORDER BY submitted_at DESC, id DESC LIMIT ?");
+        args.add(limit + 1);
+
+        List<TicketSummary> rows;
+        try {
+            rows = jdbcTemplate.query(sql.toString(), TicketSummaryRowMapper.INSTANCE, args.toArray());
+        } catch (DataAccessException e) {
+            logger.error("Error fetching ticket page", e);
+            throw new ErrorException("Database error while fetching tickets: " + e.getMessage());
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            TicketSummary last = rows.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getSubmittedAt().toString(), last.getId()).encode();
+        }
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    private record SearchHit(TicketSummary ticket, double score) {}
+
+    // Full-text search over subject, body, name, apartment_name and unit_number through the
+    // ft_tickets_search index, best match first. Every word is matched as a prefix and any
+    // word may match; tickets matching more (and rarer) words score higher. The cursor carries
+    // the (score, id) of the last row sent, so paging is best-effort: scores depend on the whole
+    // corpus, and a ticket added, edited or deleted between pages can shift them so a later page
+    // skips or repeats a hit. Fine for an admin skimming results; not a stable enumeration.
+    @Transactional(readOnly = true)
+    public CursorPage<TicketSummary> search(String query, KeysetCursor after, int limit) {
+        String terms = toBooleanQuery(query);
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, unit_number, apartment_name, name, category, subject, status,
+                       submitted_at, status_updated_at, status_updated_by,
+                       MATCH(subject, body, name, apartment_name, unit_number) AGAINST (? IN BOOLEAN MODE) AS score
+                FROM tickets
+                WHERE MATCH(subject, body, name, apartment_name, unit_number) AGAINST (? IN BOOLEAN MODE)
+                """);
+        List<Object> args = new ArrayList<>(List.of(terms, terms));
+        if (after != null) {
+            double afterScore = Double.parseDouble(after.getKey());
+            sql.append(" HAVING score < ? OR (score = ? AND id < ?)");
+            args.add(afterScore);
+            args.add(afterScore);
+            args.add(after.getId());
+        }
+        // one extra row tells us whether another page exists
+        sql.append(" ORDER BY score DESC, id DESC LIMIT ?");
+        args.add(limit + 1);
+
+        List<SearchHit> hits;
+        try {
+            hits = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new SearchHit(
+                    TicketSummaryRowMapper.INSTANCE.mapRow(rs, rowNum), rs.getDouble("score")), args.toArray());
+        } catch (DataAccessException e) {
+            logger.error("Error searching tickets", e);
+            throw new ErrorException("Database error while searching tickets: " + e.getMessage());
+        }
+
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            SearchHit last = hits.get(limit - 1);
+            nextCursor = new KeysetCursor(Double.toString(last.score()), last.ticket().getId()).encode();
+        }
+        return new CursorPage<>(hits.stream().map(SearchHit::ticket).toList(), nextCursor);
+    }
+
+    // "leaking faucet 2B" -> "leaking* faucet* 2B*"; boolean-mode operators in the input are
+    // dropped so they can't change the meaning of the search
+    private static String toBooleanQuery(String query) {
+        StringBuilder terms = new StringBuilder();
+        for (String word : query.split("\\s+")) {
+            String term = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (!term.isEmpty()) {
+                terms.append(terms.isEmpty() ? "" : " ").append(term).append('*');
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word.");
+        }
+        return terms.toString();
+    }
+
     @Transactional(readOnly = true)
     public Ticket findById(int id) {
         String sql = "SELECT * FROM tickets WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new TicketRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, TicketRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             return null;
         } catch (DataAccessException e) {
@@ -178,12 +309,12 @@ public class TicketRepository {
     }
 
     @Transactional
-    public int updateStatus(int id, Status status, String statusUpdatedAt, String statusUpdatedBy) {
+    public int updateStatus(int id, Status status, Instant statusUpdatedAt, String statusUpdatedBy) {
         if (status == null) {
             logger.error("Status is null");
             throw new ErrorException("Status is required.");
         }
-        Timestamp statusUpdatedAtTs = toTimestamp(statusUpdatedAt, "statusUpdatedAt");
+        Timestamp statusUpdatedAtTs = toTimestamp(statusUpdatedAt);
         String sql = "UPDATE tickets SET status = ?, status_updated_at = ?, status_updated_by = ? WHERE id = ?";
         try {
             int rowsAffected = jdbcTemplate.update(sql, status.getLabel(), statusUpdatedAtTs, statusUpdatedBy, id);
@@ -195,15 +326,7 @@ public class TicketRepository {
         }
     }
 
-    private Timestamp toTimestamp(String value, String fieldName) {
-        if (value == null || value.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return Timestamp.from(Instant.parse(value));
-        } catch (DateTimeParseException e) {
-            logger.error("Invalid timestamp format for {}: {}", fieldName, value);
-            throw new ErrorException("Invalid timestamp format for " + fieldName + ": " + value);
-        }
+    private Timestamp toTimestamp(Instant value) {
+        return value != null ? Timestamp.from(value) : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.jjapartments.backend.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jjapartments.backend.dto.UnitOverview;
+import com.jjapartments.backend.models.SubTenant;
+import com.jjapartments.backend.models.Tenant;
+import com.jjapartments.backend.models.Unit;
+
+@Repository
+public class UnitOverviewRepository {
+
+    @Autowired
+    private UnitRepository unitRepository;
+    @Autowired
+    private TenantRepository tenantRepository;
+    @Autowired
+    private SubTenantRepository subTenantRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private UtilityRepository utilityRepository;
+
+    // one read-only transaction, so every part is read on the same connection and snapshot.
+    // All of the unit's tenants come back in one query and are split into active and past here.
+    @Transactional(readOnly = true)
+    public UnitOverview findOverview(int unitId, int recentLimit) {
+        Unit unit = unitRepository.findById(unitId);
+
+        Tenant activeTenant = null;
+        List<Tenant> pastTenants = new ArrayList<>();
+        for (Tenant tenant : tenantRepository.findByUnitId(unitId)) {
+            if (tenant.getId() == unit.getActiveTenantId()) {
+                activeTenant = tenant;
+            } else if (tenant.getMoveOutDate() != null) {
+                pastTenants.add(tenant);
+            }
+        }
+        // same order as /api/tenants/moved-out/{unitId}
+        pastTenants.sort(Comparator.comparing(Tenant::getMoveOutDate).reversed());
+
+        List<SubTenant> subTenants = activeTenant != null
+                ? subTenantRepository.findByMainTenantId(activeTenant.getId())
+                : List.of();
+
+        return new UnitOverview(unit, activeTenant, subTenants, pastTenants,
+                paymentRepository.findRecentByUnit(unitId, recentLimit),
+                utilityRepository.findRecentByUnit(unitId, recentLimit));
+    }
+}
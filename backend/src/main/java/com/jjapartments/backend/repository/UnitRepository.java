@@ -12,39 +12,31 @@ import org.springframework.transaction.annotation.Transactional;
 import com.jjapartments.backend.models.Unit;
 import com.jjapartments.backend.mappers.UnitRowMapper;
 import com.jjapartments.backend.exception.ErrorException;
+import com.jjapartments.backend.util.JdbcInsert;
 
 @Repository
 public class UnitRepository {
 
+    // curr_occupants is a stored counter maintained by TenantRepository and SubTenantRepository
+    private static final String SELECT_UNITS = """
+            SELECT
+                u.id,
+                u.unit_number,
+                u.name,
+                u.description,
+                u.price,
+                u.num_occupants,
+                u.curr_occupants,
+                u.active_tenant_id
+            FROM units u
+            """;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
     @Transactional(readOnly = true)
     public List<Unit> findAll() {
-        String sql = """
-                    SELECT
-                        u.id,
-                        u.unit_number,
-                        u.name,
-                        u.description,
-                        u.price,
-                        u.num_occupants,
-                        (CASE
-                            WHEN u.active_tenant_id IS NULL THEN 0
-                            ELSE (
-                                1 + (
-                                    SELECT COUNT(*)
-                                    FROM sub_tenants st
-                                    WHERE st.main_tenant_id = u.active_tenant_id
-                                )
-                            )
-                        END) AS curr_occupants,
-                        u.active_tenant_id
-                    FROM units u
-                    LEFT JOIN tenants t ON u.active_tenant_id = t.id
-                """;
-
-        return jdbcTemplate.query(sql, new UnitRowMapper());
+        return jdbcTemplate.query(SELECT_UNITS, UnitRowMapper.INSTANCE);
     }
 
     // for creating
@@ -66,53 +58,32 @@ public class UnitRepository {
         if (unitExists(unit)) {
             throw new ErrorException("The unit already exists.");
         } else {
-            String sql = "INSERT INTO units(unit_number, name, description, price, num_occupants,active_tenant_id) VALUES (?, ?, ?, ?, ?, ?)";
-            jdbcTemplate.update(
+            Integer activeTenantId = unit.getActiveTenantId() > 0 ? unit.getActiveTenantId() : null;
+            String sql = """
+                    INSERT INTO units(unit_number, name, description, price, num_occupants, active_tenant_id, curr_occupants)
+                    VALUES (?, ?, ?, ?, ?, ?,
+                        CASE WHEN ? IS NULL THEN 0
+                        ELSE 1 + (SELECT COUNT(*) FROM sub_tenants WHERE main_tenant_id = ?) END)
+                    """;
+            int id = JdbcInsert.insertReturningId(
+                    jdbcTemplate,
                     sql,
                     unit.getUnitNumber(),
                     unit.getName(),
                     unit.getDescription(),
                     unit.getPrice(),
                     unit.getNumOccupants(),
-                    unit.getActiveTenantId() > 0 ? unit.getActiveTenantId() : null);
-
-            String fetchSql = """
-                        SELECT
-                            u.id,
-                            u.unit_number,
-                            u.name,
-                            u.description,
-                            u.price,
-                            u.num_occupants,
-                            (CASE
-                                WHEN u.active_tenant_id IS NULL THEN 0
-                                ELSE (
-                                    1 + (
-                                        SELECT COUNT(*)
-                                        FROM sub_tenants st
-                                        WHERE st.main_tenant_id = u.active_tenant_id
-                                    )
-                                )
-                            END) AS curr_occupants,
-                            u.active_tenant_id
-                        FROM units u
-                        LEFT JOIN tenants t ON u.active_tenant_id = t.id
-                        WHERE u.unit_number = ?
-                            AND u.name = ?
-                            AND u.description = ?
-                            AND u.price = ?
-                            AND u.num_occupants = ?
-                        ORDER BY u.id DESC
-                        LIMIT 1
-                    """;
-            return jdbcTemplate.queryForObject(
-                    fetchSql,
-                    new UnitRowMapper(),
-                    unit.getUnitNumber(),
-                    unit.getName(),
-                    unit.getDescription(),
-                    unit.getPrice(),
-                    unit.getNumOccupants());
+                    activeTenantId,
+                    activeTenantId,
+                    activeTenantId);
+
+            // occupancy is derived in SQL, so only re-read when a tenant was attached
+            if (activeTenantId != null) {
+                return findById(id);
+            }
+            unit.setId(id);
+            unit.setCurrOccupants(0);
+            return unit;
         }
     }
 
@@ -122,32 +93,12 @@ public class UnitRepository {
     }
 
     public Unit findById(int id) {
-        String sql = """
-                    SELECT
-                        u.id,
-                        u.unit_number,
-                        u.name,
-                        u.description,
-                        u.price,
-                        u.num_occupants,
-                    (CASE
-                        WHEN u.active_tenant_id IS NULL THEN 0
-                        ELSE (
-                            1 + (
-                                SELECT COUNT(*)
-                                FROM sub_tenants st
-                                WHERE st.main_tenant_id = u.active_tenant_id
-                            )
-                        )
-                    END) AS curr_occupants,
-                    u.active_tenant_id
-                    FROM units u
-                    LEFT JOIN tenants t ON u.active_tenant_id = t.id
+        String sql = SELECT_UNITS + """
                     WHERE u.id = ?
                 """;
 
         try {
-            return jdbcTemplate.queryForObject(sql, new UnitRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, UnitRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Unit with id " + id + " not found.");
         }
@@ -165,63 +116,23 @@ public class UnitRepository {
     }
 
     public List<Unit> searchByKeyword(String keyword) {
-        String sql = """
-                    SELECT
-                        u.id,
-                        u.unit_number,
-                        u.name,
-                        u.description,
-                        u.price,
-                        u.num_occupants,
-                        (CASE
-                            WHEN u.active_tenant_id IS NULL THEN 0
-                            ELSE (
-                                1 + (
-                                    SELECT COUNT(*)
-                                    FROM sub_tenants st
-                                    WHERE st.main_tenant_id = u.active_tenant_id
-                                )
-                            )
-                        END) AS curr_occupants,
-                        u.active_tenant_id
-                    FROM units u
-                    LEFT JOIN tenants t ON u.active_tenant_id = t.id
+        String sql = SELECT_UNITS + """
                     WHERE LOWER(u.name) LIKE ?
-                       OR LOWER(u.description) LIKE ?
-                       OR LOWER(u.unit_number) LIKE ?
+                    OR LOWER(u.description) LIKE ?
+                    OR LOWER(u.unit_number) LIKE ?
                 """;
 
         String likeKeyword = "%" + keyword.toLowerCase() + "%";
-        return jdbcTemplate.query(sql, new UnitRowMapper(), likeKeyword, likeKeyword, likeKeyword);
+        return jdbcTemplate.query(sql, UnitRowMapper.INSTANCE, likeKeyword, likeKeyword, likeKeyword);
     }
 
     public Optional<Unit> findByNameAndUnitNumber(String name, String unitNumber) {
-        String sql = """
-                    SELECT
-                        u.id,
-                        u.unit_number,
-                        u.name,
-                        u.description,
-                        u.price,
-                        u.num_occupants,
-                        (CASE
-                            WHEN u.active_tenant_id IS NULL THEN 0
-                            ELSE (
-                                1 + (
-                                    SELECT COUNT(*)
-                                    FROM sub_tenants st
-                                    WHERE st.main_tenant_id = u.active_tenant_id
-                                )
-                            )
-                        END) AS curr_occupants,
-                        u.active_tenant_id
-                    FROM units u
-                    LEFT JOIN tenants t ON u.active_tenant_id = t.id
+        String sql = SELECT_UNITS + """
                     WHERE u.name = ? AND u.unit_number = ?
                 """;
 
         try {
-            Unit unit = jdbcTemplate.queryForObject(sql, new UnitRowMapper(), name, unitNumber);
+            Unit unit = jdbcTemplate.queryForObject(sql, UnitRowMapper.INSTANCE, name, unitNumber);
             return Optional.ofNullable(unit);
         } catch (org.springframework.dao.EmptyResultDataAccessException e) {
             return Optional.empty();
@@ -19,7 +19,7 @@ public class UserRepository{
     @Transactional(readOnly = true)
     public List<User> findAll() {
         String sql = "SELECT * FROM users"; 
-        return jdbcTemplate.query(sql, new UserRowMapper());
+        return jdbcTemplate.query(sql, UserRowMapper.INSTANCE);
     }
     // for creating
     public boolean userExists(User user) {
@@ -52,7 +52,7 @@ public class UserRepository{
     public User findById(int id) {
         String sql = "SELECT * FROM users WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new UserRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, UserRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("User with id " + id + " not found.");
         }
@@ -73,7 +73,7 @@ public class UserRepository{
     public User findByUsername(String username) {
         String sql = "SELECT * FROM users WHERE username = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new UserRowMapper(), username);
+            return jdbcTemplate.queryForObject(sql, UserRowMapper.INSTANCE, username);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("User with username " + username + " not found.");
         }
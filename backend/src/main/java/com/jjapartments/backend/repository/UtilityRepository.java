@@ -1,28 +1,47 @@
 package com.jjapartments.backend.repository;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.stereotype.Repository;
 
+import com.jjapartments.backend.models.Rate;
 import com.jjapartments.backend.models.Utility;
+import com.jjapartments.backend.repository.LedgerBalanceRepository.Column;
+import com.jjapartments.backend.repository.LedgerBalanceRepository.Posting;
 import com.jjapartments.backend.exception.ErrorException;
 import com.jjapartments.backend.mappers.UtilityRowMapper;
+import com.jjapartments.backend.util.JdbcInsert;
+import com.jjapartments.backend.util.RateCache;
+import com.jjapartments.backend.util.JdbcStreaming;
+import com.jjapartments.backend.util.LedgerFilter;
 
 @Repository
 public class UtilityRepository{
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RateCache rateCache;
+    @Autowired
+    private LedgerBalanceRepository ledgerBalanceRepository;
 
     @Transactional(readOnly = true)
     public List<Utility> findAll() {
         String sql = "SELECT * FROM utilities ORDER BY is_paid ASC, COALESCE(due_date, month_of_end) ASC"; 
-        return jdbcTemplate.query(sql, new UtilityRowMapper());
+        return jdbcTemplate.query(sql, UtilityRowMapper.INSTANCE);
     }
 
     public void validate(Utility utility) {
@@ -46,16 +65,32 @@ public class UtilityRepository{
             throw new ErrorException("Total meter cannot be less than 0.");
         }
         
+        if (utility.getMonthOfStart() == null || utility.getMonthOfEnd() == null) {
+            throw new ErrorException("Month of start and month of end are required");
+        }
         if (utility.getMonthOfEnd().compareTo(utility.getMonthOfStart()) < 0) {
             throw new ErrorException("Month of end cannot be earlier than month of start");
         }
     }
 
+    // a utility bill counts towards the month it was paid in
+    private static Posting posting(Utility utility) {
+        return utility.getIsPaid() ? Posting.of(utility.getUnitId(), utility.getPaidAt(), utility.getTotalAmount()) : null;
+    }
+
+    private Utility findForUpdate(int id) {
+        List<Utility> rows = jdbcTemplate.query("SELECT * FROM utilities WHERE id = ? FOR UPDATE", UtilityRowMapper.INSTANCE, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Transactional
     public Utility add(Utility utility) {
-        String rateSql = "SELECT id, rate FROM rates WHERE type = ? ORDER BY date DESC LIMIT 1";
-        Map<String, Object> rate = jdbcTemplate.queryForMap(rateSql, utility.getType());
-        int rateId = (int) rate.get("id");
-        float rateValue = ((BigDecimal) rate.get("rate")).floatValue();
+        Rate rate = rateCache.findLatestByType(utility.getType());
+        if (rate == null) {
+            throw new ErrorException("Invalid rate type " + utility.getType());
+        }
+        int rateId = rate.getId();
+        float rateValue = rate.getRate();
         
         String meterSql = "SELECT current_reading FROM utilities WHERE units_id = ? AND type = ? ORDER BY month_of_end DESC LIMIT 1";
         List<BigDecimal> readings = jdbcTemplate.query(
@@ -75,61 +110,154 @@ public class UtilityRepository{
 
         validate(utility);
         String sql = "INSERT INTO utilities(type, previous_reading, current_reading, total_meter, total_amount, due_date, month_of_start, month_of_end, is_paid, paid_at, units_id, rates_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, utility.getType(), previousReading, utility.getCurrentReading(), totalMeter, totalAmount, utility.getDueDate(), utility.getMonthOfStart(), utility.getMonthOfEnd(), utility.getIsPaid(), utility.getPaidAt(), utility.getUnitId(), rateId);
-       
-        String fetchSql = """
-            SELECT * FROM utilities
-            WHERE type = ?
-            AND previous_reading = ?
-            AND current_reading = ?
-            AND total_meter = ?
-            AND total_amount = ?
-            AND due_date = ?
-            AND month_of_start = ?
-            AND month_of_end = ?
-            AND is_paid = ?
-            AND (paid_at = ? OR (paid_at IS NULL AND ? IS NULL))
-            AND units_id = ?
-            AND rates_id = ?
-            ORDER BY id DESC
-            LIMIT 1
-        """;
-
-        return jdbcTemplate.queryForObject(
-            fetchSql,
-            new UtilityRowMapper(),
-            utility.getType(),
-            previousReading,
-            utility.getCurrentReading(),
-            totalMeter,
-            totalAmount,
-            utility.getDueDate(),
-            utility.getMonthOfStart(),
-            utility.getMonthOfEnd(),
-            utility.getIsPaid(),
-            utility.getIsPaid(),
-            utility.getPaidAt(), 
-            utility.getUnitId(),
-            rateId
-        );
+        int id = JdbcInsert.insertReturningId(jdbcTemplate, sql, utility.getType(), previousReading, utility.getCurrentReading(), totalMeter, totalAmount, utility.getDueDate(), utility.getMonthOfStart(), utility.getMonthOfEnd(), utility.getIsPaid(), utility.getPaidAt(), utility.getUnitId(), rateId);
+        utility.setId(id);
+        utility.setPreviousReading(previousReading);
+        utility.setTotalMeter(totalMeter);
+        utility.setTotalAmount(totalAmount);
+        utility.setRateId(rateId);
+        ledgerBalanceRepository.post(Column.UTILITIES, posting(utility));
+        return utility;
+    }
+
+    // Starts a bulk import; pass validate and write to BulkImporter
+    public ReadingChainImport startImport() {
+        return new ReadingChainImport(new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM units", Integer.class)));
+    }
+
+    // Mirrors add(): each unit's last reading is loaded once and then carried forward, so
+    // consecutive rows for a unit chain correctly. validate() checks rows against the readings
+    // seen so far, but previous_reading is only fixed in write(), from readings that actually
+    // committed. A chunk that rolls back, or a row that fails in the row-by-row retry, never
+    // advances the chain, so later rows for that unit are computed from what is stored.
+    public class ReadingChainImport {
+        private final Set<Integer> unitIds;
+        // last stored reading per unit and type
+        private final Map<String, Float> committed = new HashMap<>();
+        // committed plus rows validated but not yet written
+        private final Map<String, Float> pending = new HashMap<>();
+
+        private ReadingChainImport(Set<Integer> unitIds) {
+            this.unitIds = unitIds;
+        }
+
+        public void validate(Utility utility) {
+            if (!unitIds.contains(utility.getUnitId())) {
+                throw new ErrorException("Unit with id " + utility.getUnitId() + " not found.");
+            }
+            Rate rate = rateCache.findLatestByType(utility.getType());
+            if (rate == null) {
+                throw new ErrorException("Invalid rate type " + utility.getType());
+            }
+            String key = key(utility);
+            Float pendingReading = pending.get(key);
+            applyReading(utility, pendingReading != null ? pendingReading : committedReading(utility), rate);
+            if (utility.getCurrentReading() < utility.getPreviousReading()) {
+                throw new ErrorException("Current reading cannot be less than previous reading");
+            }
+            UtilityRepository.this.validate(utility);
+            pending.put(key, utility.getCurrentReading());
+        }
+
+        public void write(List<Utility> chunk) {
+            Map<String, Float> written = new HashMap<>();
+            Set<String> chunkKeys = new HashSet<>();
+            chunk.forEach(utility -> chunkKeys.add(key(utility)));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        committed.putAll(written);
+                    }
+                    // every row of the chunk has now been stored or rolled back, so the
+                    // chain falls back to the committed readings
+                    chunkKeys.forEach(pending::remove);
+                }
+            });
+            for (Utility utility : chunk) {
+                String key = key(utility);
+                Rate rate = rateCache.findById(utility.getRateId());
+                if (rate == null) {
+                    throw new DataIntegrityViolationException("Rate not found for rate ID: " + utility.getRateId());
+                }
+                Float chained = written.get(key);
+                applyReading(utility, chained != null ? chained : committedReading(utility), rate);
+                if (utility.getCurrentReading() < utility.getPreviousReading()) {
+                    // only reachable when an earlier row for the unit failed to write; reported
+                    // as a data error so BulkImporter retries the chunk and blames this row
+                    throw new DataIntegrityViolationException("Current reading cannot be less than previous reading");
+                }
+                written.put(key, utility.getCurrentReading());
+            }
+            addAll(chunk);
+        }
+
+        private float committedReading(Utility utility) {
+            return committed.computeIfAbsent(key(utility), k -> {
+                String meterSql = "SELECT current_reading FROM utilities WHERE units_id = ? AND type = ? ORDER BY month_of_end DESC LIMIT 1";
+                List<BigDecimal> readings = jdbcTemplate.query(meterSql, (rs, rowNum) -> rs.getBigDecimal("current_reading"), utility.getUnitId(), utility.getType());
+                return readings.isEmpty() ? 0f : readings.get(0).floatValue();
+            });
+        }
+
+        private void applyReading(Utility utility, float previousReading, Rate rate) {
+            float totalMeter = utility.getCurrentReading() - previousReading;
+            utility.setPreviousReading(previousReading);
+            utility.setTotalMeter(totalMeter);
+            utility.setTotalAmount(totalMeter * rate.getRate());
+            utility.setRateId(rate.getId());
+        }
+
+        private static String key(Utility utility) {
+            return utility.getUnitId() + ":" + utility.getType();
+        }
     }
 
+    @Transactional
+    public int[] addAll(List<Utility> utilities) {
+        String sql = "INSERT INTO utilities(type, previous_reading, current_reading, total_meter, total_amount, due_date, month_of_start, month_of_end, is_paid, paid_at, units_id, rates_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> args = new ArrayList<>(utilities.size());
+        for (Utility utility : utilities) {
+            args.add(new Object[] { utility.getType(), utility.getPreviousReading(), utility.getCurrentReading(), utility.getTotalMeter(), utility.getTotalAmount(), utility.getDueDate(), utility.getMonthOfStart(), utility.getMonthOfEnd(), utility.getIsPaid(), utility.getPaidAt(), utility.getUnitId(), utility.getRateId() });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+        ledgerBalanceRepository.postAll(Column.UTILITIES, utilities.stream().map(UtilityRepository::posting).toList());
+        return counts;
+    }
+
+    // cursor-backed read for exports; rows are mapped and handed over one at a time
+    public void streamLedger(LedgerFilter filter, Consumer<Utility> action) {
+        String sql = "SELECT * FROM utilities" + filter.where("month_of_start") + " ORDER BY month_of_start ASC, id ASC";
+        JdbcStreaming.query(jdbcTemplate, sql, rs -> action.accept(UtilityRowMapper.INSTANCE.mapRow(rs, rs.getRow())), filter.args());
+    }
+
+    @Transactional
     public int delete(int id) {
+        Utility existing = findForUpdate(id);
+        if (existing == null) {
+            return 0;
+        }
         String sql = "DELETE FROM utilities WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+        int rows = jdbcTemplate.update(sql, id);
+        ledgerBalanceRepository.reverse(Column.UTILITIES, posting(existing));
+        return rows;
     }
 
     public Utility findById(int id) {
         String sql = "SELECT * FROM utilities WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, new UtilityRowMapper(), id);
+            return jdbcTemplate.queryForObject(sql, UtilityRowMapper.INSTANCE, id);
         } catch (EmptyResultDataAccessException e) {
             throw new ErrorException("Utility record with id " + id + "  not found.");
         }
     }
 
+    @Transactional
     public int update(int id, Utility utility) {
-        findById(id);
+        Utility existing = findForUpdate(id);
+        if (existing == null) {
+            throw new ErrorException("Utility record with id " + id + "  not found.");
+        }
         validate(utility);
         // Auto-calculate total meter and total amount
         Float prev = utility.getPreviousReading();
@@ -139,31 +267,36 @@ public class UtilityRepository{
             float totalMeter = curr - prev;
             utility.setTotalMeter(totalMeter);
 
-            String rateSql = "SELECT rate FROM rates WHERE id = ?";
-            Float rate = jdbcTemplate.queryForObject(rateSql, Float.class, utility.getRateId());
-
+            Rate rate = rateCache.findById(utility.getRateId());
             if (rate == null) {
-                throw new RuntimeException("Rate not found for rate ID: " + utility.getRateId());
+                throw new ErrorException("Rate not found for rate ID: " + utility.getRateId());
             }
-            utility.setTotalAmount(utility.getTotalMeter() * rate);
+            utility.setTotalAmount(utility.getTotalMeter() * rate.getRate());
         }
         String sql = "UPDATE utilities SET type = ?, units_id = ?, previous_reading = ?, current_reading = ?, total_meter = ?, total_amount = ?, due_date = ?, month_of_start = ?, month_of_end = ?, is_paid = ?, paid_at = ? WHERE id = ?";
-        return jdbcTemplate.update(sql, utility.getType(), utility.getUnitId(), utility.getPreviousReading(), utility.getCurrentReading(), utility.getTotalMeter(), utility.getTotalAmount(), utility.getDueDate(), utility.getMonthOfStart(), utility.getMonthOfEnd(), utility.getIsPaid(), utility.getPaidAt(), id);
+        int rows = jdbcTemplate.update(sql, utility.getType(), utility.getUnitId(), utility.getPreviousReading(), utility.getCurrentReading(), utility.getTotalMeter(), utility.getTotalAmount(), utility.getDueDate(), utility.getMonthOfStart(), utility.getMonthOfEnd(), utility.getIsPaid(), utility.getPaidAt(), id);
+        ledgerBalanceRepository.replace(Column.UTILITIES, posting(existing), posting(utility));
+        return rows;
     }
 
     public List<Utility> findByUnit(int id) {
         String sql = "SELECT * FROM utilities WHERE units_id = ? ORDER BY is_paid ASC, due_date DESC";
-        return jdbcTemplate.query(sql, new UtilityRowMapper(), id);
+        return jdbcTemplate.query(sql, UtilityRowMapper.INSTANCE, id);
+    }
+
+    // newest billing periods first; served by idx_utilities_unit_period
+    @Transactional(readOnly = true)
+    public List<Utility> findRecentByUnit(int unitId, int limit) {
+        String sql = "SELECT * FROM utilities WHERE units_id = ? ORDER BY month_of_start DESC, id DESC LIMIT ?";
+        return jdbcTemplate.query(sql, UtilityRowMapper.INSTANCE, unitId, limit);
     }
 
     public List<Utility> findByType(String type) {
         String sql = "SELECT * FROM utilities WHERE type = ? ORDER BY due_date DESC"; 
-        return jdbcTemplate.query(sql, new UtilityRowMapper(), type);
+        return jdbcTemplate.query(sql, UtilityRowMapper.INSTANCE, type);
     }
     
     public float getMonthlyAmountByUnitId(int id, int year, int month) {
-        String sql = "SELECT COALESCE(SUM(total_amount), 0) FROM utilities WHERE units_id = ? AND is_paid = 1 AND YEAR(paid_at) = ? AND MONTH(paid_at) = ? ";
-        Float amount = jdbcTemplate.queryForObject(sql, Float.class, id, year, month);
-        return amount != null? amount : 0.0f;
+        return ledgerBalanceRepository.findAmount(Column.UTILITIES, id, year, month);
     }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.jjapartments.backend.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jjapartments.backend.dto.ImportResult;
+import com.jjapartments.backend.exception.ErrorException;
+
+// Streams CSV (header row + records) or a JSON array into entities, validates each row
+// and writes the valid ones in JDBC batches of chunkSize rows, each in its own transaction.
+// A chunk that fails in the database is retried row by row so the error lands on the right row.
+@Component
+public class BulkImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImporter.class);
+    private static final int MAX_CHUNK_SIZE = 5000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.import.chunk-size:500}")
+    private int defaultChunkSize;
+
+    public <T> ImportResult importRows(InputStream in, String contentType, Class<T> type,
+            Consumer<T> validator, Consumer<List<T>> writer, Integer chunkSize) {
+        int size = chunkSize != null ? chunkSize : defaultChunkSize;
+        if (size <= 0 || size > MAX_CHUNK_SIZE) {
+            throw new ErrorException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE + ".");
+        }
+
+        Batch<T> batch = new Batch<>(size, writer, new TransactionTemplate(transactionManager));
+        try {
+            if (contentType != null && contentType.toLowerCase().contains("json")) {
+                readJson(in, type, validator, batch);
+            } else {
+                readCsv(in, type, validator, batch);
+            }
+        } catch (IOException e) {
+            throw new ErrorException("Could not read import file: " + e.getMessage());
+        }
+        batch.flush();
+        batch.result.getErrors().sort(Comparator.comparingInt(ImportResult.RowError::getRow));
+        return batch.result;
+    }
+
+    private <T> void readCsv(InputStream in, Class<T> type, Consumer<T> validator, Batch<T> batch)
+            throws IOException {
+        try (CsvReader csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new ErrorException("Import file is empty.");
+            }
+            if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+                header.set(0, header.get(0).substring(1));
+            }
+
+            int row = 0;
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                row++;
+                if (record.size() != header.size()) {
+                    batch.reject(row, "Expected " + header.size() + " columns but found " + record.size());
+                    continue;
+                }
+                Map<String, String> values = new LinkedHashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    String value = record.get(i).trim();
+                    values.put(header.get(i).trim(), value.isEmpty() ? null : value);
+                }
+                accept(row, () -> objectMapper.convertValue(values, type), validator, batch);
+            }
+        }
+    }
+
+    private <T> void readJson(InputStream in, Class<T> type, Consumer<T> validator, Batch<T> batch)
+            throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ErrorException("Expected a JSON array of rows.");
+            }
+            int row = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                row++;
+                JsonNode node = objectMapper.readTree(parser);
+                accept(row, () -> objectMapper.treeToValue(node, type), validator, batch);
+            }
+        }
+    }
+
+    private interface RowSupplier<T> {
+        T get() throws Exception;
+    }
+
+    private <T> void accept(int row, RowSupplier<T> supplier, Consumer<T> validator, Batch<T> batch) {
+        T entity;
+        try {
+            entity = supplier.get();
+            validator.accept(entity);
+        } catch (ErrorException e) {
+            batch.reject(row, e.getMessage());
+            return;
+        } catch (Exception e) {
+            batch.reject(row, "Invalid row: " + e.getMessage());
+            return;
+        }
+        batch.add(row, entity);
+    }
+
+    private static class Batch<T> {
+        private final int size;
+        private final Consumer<List<T>> writer;
+        private final TransactionTemplate transactionTemplate;
+        private final ImportResult result = new ImportResult();
+        private final List<T> rows = new ArrayList<>();
+        private final List<Integer> rowNumbers = new ArrayList<>();
+
+        Batch(int size, Consumer<List<T>> writer, TransactionTemplate transactionTemplate) {
+            this.size = size;
+            this.writer = writer;
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        void reject(int row, String message) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            result.addError(row, message);
+        }
+
+        void add(int row, T entity) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            rows.add(entity);
+            rowNumbers.add(row);
+            if (rows.size() >= size) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                write(rows);
+                result.setImported(result.getImported() + rows.size());
+            } catch (DataAccessException e) {
+                logger.warn("Import chunk of {} rows failed, retrying row by row: {}", rows.size(),
+                        e.getMostSpecificCause().getMessage());
+                for (int i = 0; i < rows.size(); i++) {
+                    try {
+                        write(List.of(rows.get(i)));
+                        result.setImported(result.getImported() + 1);
+                    } catch (DataAccessException rowError) {
+                        result.addError(rowNumbers.get(i), rowError.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+            rows.clear();
+            rowNumbers.clear();
+        }
+
+        private void write(List<T> chunk) {
+            transactionTemplate.executeWithoutResult(status -> writer.accept(chunk));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.jjapartments.backend.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Times how long each connection is held, from checkout to close, and records it as
+// db.connection.hold tagged with the method and route pattern of the request that checked
+// it out (or "none" off a request). Holds longer than warnThresholdMs are also logged with the route,
+// so a handler starving the pool can be named instead of showing up as pool timeouts.
+public class ConnectionHoldTimingDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionHoldTimingDataSource.class);
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final long warnThresholdMs;
+
+    public ConnectionHoldTimingDataSource(DataSource target, Supplier<MeterRegistry> meterRegistry,
+            long warnThresholdMs) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+        this.warnThresholdMs = warnThresholdMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    // the route is read at checkout; close can run after the request has been unbound
+    private Connection timed(Connection connection) {
+        long start = System.nanoTime();
+        String method = "none";
+        String uri = "none";
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            method = servletAttributes.getRequest().getMethod();
+            Object pattern = servletAttributes.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        }
+        String checkoutMethod = method;
+        String checkoutUri = uri;
+        return CloseNotifyingConnection.wrap(connection,
+                () -> record(System.nanoTime() - start, checkoutMethod, checkoutUri));
+    }
+
+    private void record(long heldNanos, String method, String uri) {
+        MeterRegistry registry = meterRegistry.get();
+        if (registry != null) {
+            Timer.builder("db.connection.hold")
+                    .description("Time a connection is held between checkout and close")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(heldNanos, TimeUnit.NANOSECONDS);
+        }
+
+        long heldMs = TimeUnit.NANOSECONDS.toMillis(heldNanos);
+        if (heldMs >= warnThresholdMs) {
+            logger.warn("Connection held for {}ms by {} {}", heldMs, method, uri);
+        }
+    }
+}
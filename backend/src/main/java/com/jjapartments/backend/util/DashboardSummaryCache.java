@@ -0,0 +1,55 @@
+package com.jjapartments.backend.util;
+
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jjapartments.backend.dto.DashboardSummary;
+import com.jjapartments.backend.repository.DashboardRepository;
+
+// Holds the last dashboard summary for a few seconds, so admins refreshing the dashboard
+// share one computation. Figures may lag writes by up to the TTL.
+@Component
+public class DashboardSummaryCache {
+
+    @Value("${app.dashboard.cache-ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Autowired
+    private DashboardRepository dashboardRepository;
+
+    // a lock rather than synchronized, so a virtual thread waiting on the queries doesn't pin its carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Entry entry;
+
+    private record Entry(DashboardSummary summary, LocalDate day, long expiresAt) {}
+
+    public DashboardSummary get() {
+        Entry current = entry;
+        if (isFresh(current)) {
+            return current.summary();
+        }
+        loadLock.lock();
+        try {
+            // another request may have refreshed it while this one waited
+            current = entry;
+            if (isFresh(current)) {
+                return current.summary();
+            }
+            LocalDate today = LocalDate.now();
+            DashboardSummary summary = dashboardRepository.summarize(today);
+            entry = new Entry(summary, today, System.nanoTime() + ttlSeconds * 1_000_000_000L);
+            return summary;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // a day change invalidates early, since the month and overdue cut-off move with it
+    private static boolean isFresh(Entry entry) {
+        return entry != null && System.nanoTime() - entry.expiresAt() < 0 && entry.day().equals(LocalDate.now());
+    }
+}
@@ -0,0 +1,80 @@
+package com.jjapartments.backend.util;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+// Calls Google's siteverify endpoint through one shared client. The JDK HttpClient keeps
+// connections alive between calls, and the timeouts bound how long a Tomcat thread can
+// be held if Google is slow.
+@Component
+@ConditionalOnProperty(name = "recaptcha.verifier", havingValue = "google", matchIfMissing = true)
+public class GoogleRecaptchaVerifier implements RecaptchaVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleRecaptchaVerifier.class);
+    private static final String VERIFY_URL = "https://www.google.com/recaptcha/api/siteverify";
+
+    private final String secretKey;
+    private final RestTemplate restTemplate;
+
+    public GoogleRecaptchaVerifier(@Value("${recaptcha.secret-key}") String secretKey,
+            @Value("${recaptcha.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${recaptcha.read-timeout-ms:3000}") long readTimeoutMs) {
+        this.secretKey = secretKey;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @Override
+    public boolean verify(String token) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+            form.add("secret", secretKey);
+            form.add("response", token);
+
+            HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(form, headers);
+
+            RecaptchaVerifyResponse response = restTemplate.postForObject(
+                    VERIFY_URL,
+                    request,
+                    RecaptchaVerifyResponse.class);
+
+            return response != null && Boolean.TRUE.equals(response.isSuccess());
+        } catch (Exception e) {
+            logger.warn("reCAPTCHA verification call failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public static class RecaptchaVerifyResponse {
+        private Boolean success;
+
+        public Boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(Boolean success) {
+            this.success = success;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jjapartments.backend.util;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.jjapartments.backend.exception.ErrorException;
+
+// INSERT helper that reads the AUTO_INCREMENT id back from the same statement,
+// so repositories can echo the written entity instead of re-selecting it
+public final class JdbcInsert {
+
+    private JdbcInsert() {
+    }
+
+    public static int insertReturningId(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            return ps;
+        }, keyHolder);
+
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new ErrorException("Failed to retrieve generated ID.");
+        }
+        return key.intValue();
+    }
+}
@@ -0,0 +1,27 @@
+package com.jjapartments.backend.util;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+// Forward-only, read-only query that hands rows to the callback as they arrive.
+// Connector/J streams the result row by row for such a statement with fetch size
+// Integer.MIN_VALUE instead of buffering it all in the driver; the connection can't run
+// anything else until the result set is closed, which JdbcTemplate does when the callback returns.
+public final class JdbcStreaming {
+
+    private JdbcStreaming() {
+    }
+
+    public static void query(JdbcTemplate jdbcTemplate, String sql, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            return ps;
+        }, handler);
+    }
+}
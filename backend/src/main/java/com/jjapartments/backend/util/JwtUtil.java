@@ -2,6 +2,7 @@ package com.jjapartments.backend.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -9,6 +10,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtil {
@@ -19,8 +21,29 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    @Value("${jwt.cache.max-entries:10000}")
+    private int maxCachedTokens;
+
+    // Built once: the key and parser are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Tokens that already passed signature verification, kept until they expire
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    private record VerifiedToken(Claims claims, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     public String generateToken(int userId, String username) {
@@ -40,12 +63,47 @@ public class JwtUtil {
                 .compact();
     }
 
+    // Verifies signature and expiry in one parse and returns the claims, or null if the
+    // token is invalid or expired. Repeat calls for a token seen before skip the HMAC check.
+    public Claims validateAndGetClaims(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (now < cached.expiresAtMillis()) {
+                return cached.claims();
+            }
+            verifiedTokens.remove(token);
+            return null;
+        }
+
+        Claims claims;
+        try {
+            // parseClaimsJws rejects expired tokens itself (ExpiredJwtException)
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        Date expiresAt = claims.getExpiration();
+        if (expiresAt != null) {
+            remember(token, new VerifiedToken(claims, expiresAt.getTime()), now);
+        }
+        return claims;
+    }
+
+    private void remember(String token, VerifiedToken verified, long now) {
+        if (verifiedTokens.size() >= maxCachedTokens) {
+            verifiedTokens.values().removeIf(v -> v.expiresAtMillis() <= now);
+            if (verifiedTokens.size() >= maxCachedTokens) {
+                // still full of live tokens; start over rather than grow without bound
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(token, verified);
+    }
+
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String extractUsername(String token) {
@@ -65,14 +123,6 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return validateAndGetClaims(token) != null;
     }
-}
\ No newline at end of file
+}
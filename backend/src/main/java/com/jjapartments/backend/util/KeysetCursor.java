@@ -0,0 +1,42 @@
+package com.jjapartments.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.jjapartments.backend.exception.ErrorException;
+
+// Opaque position for keyset pagination: the sort key of the last row returned
+// plus its id as a tie-breaker, base64url encoded so clients treat it as a token
+public final class KeysetCursor {
+
+    private final String key;
+    private final int id;
+
+    public KeysetCursor(String key, int id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(raw.substring(0, separator), Integer.parseInt(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ErrorException("Invalid cursor.");
+        }
+    }
+
+    public String encode() {
+        String raw = key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getId() {
+        return id;
+    }
+}
@@ -0,0 +1,183 @@
+package com.jjapartments.backend.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.jjapartments.backend.exception.ErrorException;
+
+// Streams ledger rows to the response as CSV or NDJSON while the query cursor is
+// still open, so only one fetch window of rows is ever held in memory.
+// Rows are serialized with the same Jackson mapping the list endpoints use.
+// Each export holds a pooled connection for the whole download, so at most maxConcurrent
+// run at once; further requests get 503 with Retry-After instead of starving the pool.
+@Component
+public class LedgerExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerExporter.class);
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ErrorException("Invalid export format: " + value + ". Use csv or ndjson.");
+        }
+    }
+
+    // runs the query and passes each mapped row to the action as it is read
+    public interface RowSource<T> {
+        void forEach(Consumer<T> action);
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.export.retry-after-seconds:30}")
+    private int retryAfterSeconds;
+
+    private final Semaphore exportSlots;
+
+    public LedgerExporter(@Value("${app.export.max-concurrent:1}") int maxConcurrent) {
+        this.exportSlots = new Semaphore(maxConcurrent);
+    }
+
+    // Callers must declare ResponseEntity<StreamingResponseBody>: Spring picks its streaming handler
+    // from the declared type, so a ResponseEntity<?> handler method can't write the body
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, String format, Class<T> type,
+            RowSource<T> source) {
+        Format exportFormat = Format.parse(format);
+        if (!exportSlots.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorBody("Too many exports running, please retry shortly"));
+        }
+        // the body is written on the async executor; bind the request there too so the
+        // connection hold timing is tagged with the export's route rather than "none"
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                if (exportFormat == Format.CSV) {
+                    writeCsv(writer, type, source);
+                } else {
+                    writeNdjson(writer, type, source);
+                }
+            } catch (UncheckedIOException e) {
+                // client went away mid-download; the cursor is already closed by JdbcTemplate
+                logger.debug("Export of {} aborted: {}", name, e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                // headers are already committed, so the client just sees a truncated file
+                logger.error("Export of {} failed", name, e);
+                throw e;
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+                // the cursor and its connection are closed by now
+                exportSlots.release();
+            }
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + exportFormat.extension + "\"")
+                .body(body);
+    }
+
+    // {"error": message}, as the other endpoints return it
+    public ResponseEntity<StreamingResponseBody> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBody(message));
+    }
+
+    private StreamingResponseBody errorBody(String message) {
+        return out -> objectMapper.writeValue(out, Map.of("error", message));
+    }
+
+    private <T> void writeCsv(Writer writer, Class<T> type, RowSource<T> source) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        List<String> columns = columnsOf(type);
+        csv.writeRecord(columns);
+
+        List<String> fields = new ArrayList<>(columns.size());
+        source.forEach(row -> {
+            JsonNode node = objectMapper.valueToTree(row);
+            fields.clear();
+            for (String column : columns) {
+                JsonNode value = node.get(column);
+                fields.add(value == null || value.isNull() ? null : value.asText());
+            }
+            try {
+                csv.writeRecord(fields);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private <T> void writeNdjson(Writer writer, Class<T> type, RowSource<T> source) {
+        ObjectWriter rowWriter = objectMapper.writerFor(type);
+        source.forEach(row -> {
+            try {
+                writer.write(rowWriter.writeValueAsString(row));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private List<String> columnsOf(Class<?> type) {
+        List<String> columns = new ArrayList<>();
+        for (BeanPropertyDefinition property : objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type)).findProperties()) {
+            if (property.couldSerialize()) {
+                columns.add(property.getName());
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,58 @@
+package com.jjapartments.backend.util;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jjapartments.backend.exception.ErrorException;
+
+// Optional unit and inclusive date-range filter for ledger exports. The range is
+// rendered as a half-open [from, to + 1 day) predicate so the date column stays sargable.
+public final class LedgerFilter {
+
+    private final Integer unitId;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private LedgerFilter(Integer unitId, LocalDate from, LocalDate to) {
+        this.unitId = unitId;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static LedgerFilter of(Integer unitId, LocalDate from, LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new ErrorException("'to' date cannot be earlier than 'from' date");
+        }
+        return new LedgerFilter(unitId, from, to);
+    }
+
+    public String where(String dateColumn) {
+        List<String> conditions = new ArrayList<>();
+        if (unitId != null) {
+            conditions.add("units_id = ?");
+        }
+        if (from != null) {
+            conditions.add(dateColumn + " >= ?");
+        }
+        if (to != null) {
+            conditions.add(dateColumn + " < ?");
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    public Object[] args() {
+        List<Object> args = new ArrayList<>();
+        if (unitId != null) {
+            args.add(unitId);
+        }
+        if (from != null) {
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            args.add(Date.valueOf(to.plusDays(1)));
+        }
+        return args.toArray();
+    }
+}
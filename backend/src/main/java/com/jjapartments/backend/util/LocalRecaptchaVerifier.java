@@ -0,0 +1,31 @@
+package com.jjapartments.backend.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Offline stand-in for load tests and local development: accepts any token except
+// those starting with recaptcha.local.reject-prefix, after an optional simulated delay.
+@Component
+@ConditionalOnProperty(name = "recaptcha.verifier", havingValue = "local")
+public class LocalRecaptchaVerifier implements RecaptchaVerifier {
+
+    @Value("${recaptcha.local.reject-prefix:fail}")
+    private String rejectPrefix;
+
+    @Value("${recaptcha.local.latency-ms:0}")
+    private long latencyMs;
+
+    @Override
+    public boolean verify(String token) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return !token.startsWith(rejectPrefix);
+    }
+}
@@ -0,0 +1,49 @@
+package com.jjapartments.backend.util;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+
+import com.jjapartments.backend.exception.ErrorException;
+
+// Half-open [start, end) bounds of a calendar month, so date columns can be
+// filtered with plain range predicates that an index can serve
+public final class MonthRange {
+
+    private final LocalDate start;
+    private final LocalDate end;
+
+    private MonthRange(LocalDate start) {
+        this.start = start;
+        this.end = start.plusMonths(1);
+    }
+
+    public static MonthRange of(int year, int month) {
+        validate(year, month);
+        return new MonthRange(LocalDate.of(year, month, 1));
+    }
+
+    // for callers that key on year/month directly and need no date bounds
+    public static void validate(int year, int month) {
+        if (!ChronoField.YEAR.range().isValidIntValue(year)
+                || !ChronoField.MONTH_OF_YEAR.range().isValidIntValue(month)) {
+            throw new ErrorException("Invalid year/month: " + month + "/" + year);
+        }
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    public Date startDate() {
+        return Date.valueOf(start);
+    }
+
+    public Date endDate() {
+        return Date.valueOf(end);
+    }
+}
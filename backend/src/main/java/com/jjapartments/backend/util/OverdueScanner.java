@@ -0,0 +1,53 @@
+package com.jjapartments.backend.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionException;
+import org.springframework.stereotype.Component;
+
+import com.jjapartments.backend.repository.OverdueRepository;
+
+// Rebuilds overdue_items from the payments and utilities ledgers on a fixed delay, so the
+// overdue listing is an indexed read. Admins can also trigger a scan after marking items paid.
+@Component
+public class OverdueScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueScanner.class);
+
+    @Autowired
+    private OverdueRepository overdueRepository;
+
+    // a lock rather than synchronized, so a virtual thread waiting on a running scan doesn't pin its carrier
+    private final ReentrantLock scanLock = new ReentrantLock();
+
+    @Scheduled(initialDelayString = "${app.overdue.initial-delay-ms:10000}",
+            fixedDelayString = "${app.overdue.scan-interval-ms:300000}")
+    public void scheduledScan() {
+        try {
+            scan();
+        } catch (DataAccessException | TransactionException e) {
+            // the next run will try again
+            logger.warn("Overdue scan failed: {}", e.getMessage());
+        }
+    }
+
+    // returns the number of overdue items after the scan
+    public int scan() {
+        scanLock.lock();
+        try {
+            long start = System.nanoTime();
+            int count = overdueRepository.refresh(LocalDate.now(), Instant.now());
+            logger.debug("Overdue scan found {} items in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+            return count;
+        } finally {
+            scanLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.jjapartments.backend.util;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jjapartments.backend.mappers.RateRowMapper;
+import com.jjapartments.backend.models.Rate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// In-process copy of the rates table (a handful of rows) answering latest-by-type and
+// by-id lookups without a query. Loaded at startup, dropped by RateRepository on every
+// write and reloaded on the next lookup. Hits/misses are counted in rates.cache.requests.
+@Component
+public class RateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateCache.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter reloads;
+
+    private final AtomicLong version = new AtomicLong();
+    // a lock rather than synchronized, so a virtual thread waiting on the reload query doesn't pin its carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public RateCache(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("rates.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("rates.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.reloads = Counter.builder("rates.cache.reloads").register(meterRegistry);
+    }
+
+    private static class Snapshot {
+        private final Map<Integer, Rate> byId = new HashMap<>();
+        private final Map<String, Rate> latestByType = new HashMap<>();
+
+        private Snapshot(List<Rate> rates) {
+            for (Rate rate : rates) {
+                byId.put(rate.getId(), rate);
+                // same winner as ORDER BY date DESC, with the newer id breaking ties
+                latestByType.merge(rate.getType(), rate, (current, candidate) -> {
+                    int byDate = compareDates(candidate.getDate(), current.getDate());
+                    return byDate > 0 || (byDate == 0 && candidate.getId() > current.getId()) ? candidate : current;
+                });
+            }
+        }
+
+        private static int compareDates(LocalDate a, LocalDate b) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : -1) : 1;
+            }
+            return a.compareTo(b);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            load();
+        } catch (DataAccessException e) {
+            // the first lookup will try again
+            logger.warn("Could not preload rates: {}", e.getMessage());
+        }
+    }
+
+    // latest rate for the type, or null if the type has no rates
+    public Rate findLatestByType(String type) {
+        Snapshot cached = snapshot;
+        if (cached == null) {
+            misses.increment();
+            return copy(load().latestByType.get(type));
+        }
+        hits.increment();
+        return copy(cached.latestByType.get(type));
+    }
+
+    // rate with the id, or null if it does not exist
+    public Rate findById(int id) {
+        Snapshot cached = snapshot;
+        Rate rate = (cached != null ? cached : load()).byId.get(id);
+        if (cached != null && rate != null) {
+            hits.increment();
+            return copy(rate);
+        }
+        misses.increment();
+        if (rate != null) {
+            return copy(rate);
+        }
+        // may have been written by another instance since our last load; read it directly
+        List<Rate> rows = jdbcTemplate.query("SELECT * FROM rates WHERE id = ?", RateRowMapper.INSTANCE, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshot = null;
+        // a reload inside the writer's transaction could still see the old rows elsewhere,
+        // so drop the snapshot again once the change is visible to everyone
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                    snapshot = null;
+                }
+            });
+        }
+    }
+
+    private Snapshot load() {
+        loadLock.lock();
+        try {
+            Snapshot loaded = snapshot;
+            if (loaded != null) {
+                return loaded;
+            }
+            long loadedVersion = version.get();
+            reloads.increment();
+            loaded = new Snapshot(jdbcTemplate.query("SELECT * FROM rates", RateRowMapper.INSTANCE));
+            // an invalidate() that raced with the query means these rows may already be stale
+            if (version.get() == loadedVersion) {
+                snapshot = loaded;
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // callers get their own instance so the cached one can't be modified
+    private static Rate copy(Rate rate) {
+        if (rate == null) {
+            return null;
+        }
+        Rate copy = new Rate();
+        copy.setId(rate.getId());
+        copy.setType(rate.getType());
+        copy.setRate(rate.getRate());
+        copy.setDate(rate.getDate());
+        return copy;
+    }
+}
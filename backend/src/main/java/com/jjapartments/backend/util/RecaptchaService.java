@@ -1,59 +1,60 @@
 package com.jjapartments.backend.util;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 public class RecaptchaService {
 
-    private static final String VERIFY_URL = "https://www.google.com/recaptcha/api/siteverify";
-
-    @Value("${recaptcha.secret-key}")
-    private String secretKey;
-
-    public boolean verify(String token) {
-        if (token == null || token.trim().isEmpty()) {
-            return false;
-        }
+    @Autowired
+    private RecaptchaVerifier verifier;
 
-        try {
-            RestTemplate restTemplate = new RestTemplate();
+    // Boot's application executor: virtual threads when enabled, its thread pool otherwise
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private AsyncTaskExecutor taskExecutor;
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+    @Value("${recaptcha.cache.ttl-seconds:120}")
+    private long cacheTtlSeconds;
 
-            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
-            form.add("secret", secretKey);
-            form.add("response", token);
+    @Value("${recaptcha.cache.max-entries:10000}")
+    private int maxCachedTokens;
 
-            HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(form, headers);
+    // Tokens already presented, with when we stop tracking them. A token is single-use, so a
+    // second submission with it is refused without a call, whether the first one is still being
+    // verified, passed or failed. Google rejects a reused token as well; this only saves the trip.
+    private final Map<String, Long> seenTokens = new ConcurrentHashMap<>();
 
-            RecaptchaVerifyResponse response = restTemplate.postForObject(
-                    VERIFY_URL,
-                    request,
-                    RecaptchaVerifyResponse.class);
-
-            return response != null && Boolean.TRUE.equals(response.isSuccess());
-        } catch (Exception e) {
-            return false;
+    // Runs the verifier on the task executor so the request thread isn't held during the call
+    public CompletableFuture<Boolean> verifyAsync(String token) {
+        if (token == null || token.trim().isEmpty() || !claim(token)) {
+            return CompletableFuture.completedFuture(false);
         }
+        return CompletableFuture.supplyAsync(() -> verifier.verify(token), taskExecutor);
     }
 
-    public static class RecaptchaVerifyResponse {
-        private Boolean success;
-
-        public Boolean isSuccess() {
-            return success;
+    // true for exactly one caller per token while it is tracked
+    private boolean claim(String token) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + cacheTtlSeconds * 1000;
+        if (seenTokens.size() >= maxCachedTokens) {
+            seenTokens.values().removeIf(expiry -> expiry <= now);
+            if (seenTokens.size() >= maxCachedTokens) {
+                seenTokens.clear();
+            }
         }
-
-        public void setSuccess(Boolean success) {
-            this.success = success;
+        Long previous = seenTokens.putIfAbsent(token, expiresAt);
+        if (previous == null) {
+            return true;
         }
+        return previous <= now && seenTokens.replace(token, previous, expiresAt);
     }
 }
@@ -0,0 +1,8 @@
+package com.jjapartments.backend.util;
+
+// Checks a reCAPTCHA response token. Selected with recaptcha.verifier:
+// "google" (default) calls the siteverify API, "local" is an offline stand-in.
+public interface RecaptchaVerifier {
+
+    boolean verify(String token);
+}
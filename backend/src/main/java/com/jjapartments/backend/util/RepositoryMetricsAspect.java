@@ -0,0 +1,135 @@
+package com.jjapartments.backend.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.jjapartments.backend.dto.CursorPage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Times every public repository method and records, tagged by entity and operation:
+//   repository.calls   latency histogram, plus outcome=success|error
+//   repository.rows    rows returned (lists, pages) or affected (update counts, batches)
+//   repository.errors  failures, plus the exception type
+// e.g. UnitRepository.findAll -> entity=unit, operation=findAll
+// Runs outside @Transactional so the timing includes commit and failures to open a transaction.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record Meters(Timer success, Timer error, DistributionSummary rows, String entity, String operation) {
+    }
+
+    @Around("within(com.jjapartments.backend.repository..*) && execution(public * *(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Meters methodMeters = meters.computeIfAbsent(
+                signature.getDeclaringType().getSimpleName() + "." + signature.getName(),
+                key -> register(signature));
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            methodMeters.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Counter.builder("repository.errors")
+                    .tag("entity", methodMeters.entity())
+                    .tag("operation", methodMeters.operation())
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+        methodMeters.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        long rows = rowCount(result, signature);
+        if (rows >= 0) {
+            methodMeters.rows().record(rows);
+        }
+        return result;
+    }
+
+    private Meters register(MethodSignature signature) {
+        String entity = entityName(signature.getDeclaringType().getSimpleName());
+        String operation = signature.getName();
+        return new Meters(
+                timer(entity, operation, "success"),
+                timer(entity, operation, "error"),
+                DistributionSummary.builder("repository.rows")
+                        .description("Rows returned or affected per repository call")
+                        .tag("entity", entity)
+                        .tag("operation", operation)
+                        .register(meterRegistry),
+                entity,
+                operation);
+    }
+
+    private Timer timer(String entity, String operation, String outcome) {
+        return Timer.builder("repository.calls")
+                .description("Repository method latency")
+                .tag("entity", entity)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // "SubTenantRepository" -> "sub_tenant"
+    private static String entityName(String repositoryClass) {
+        String name = repositoryClass.endsWith("Repository")
+                ? repositoryClass.substring(0, repositoryClass.length() - "Repository".length())
+                : repositoryClass;
+        return name.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+    }
+
+    // -1 when the result says nothing about rows (void, booleans, scalars like sums)
+    private static long rowCount(Object result, MethodSignature signature) {
+        Class<?> returnType = signature.getReturnType();
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof CursorPage<?> page) {
+            return page.getItems() != null ? page.getItems().size() : 0;
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        if (returnType == int.class || returnType == Integer.class) {
+            // add() may hand back the generated id rather than a count; it always inserts one row
+            if (signature.getName().startsWith("add")) {
+                return 1;
+            }
+            return result != null ? ((Number) result).longValue() : 0;
+        }
+        if (returnType.getName().startsWith("com.jjapartments.backend.models")) {
+            return result != null ? 1 : 0;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,166 @@
+package com.jjapartments.backend.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jjapartments.backend.dto.QueryFingerprint;
+
+// Aggregates every statement timed by StatementTimingDataSource under a normalized
+// fingerprint (literals and IN lists collapsed, whitespace squeezed) and logs the ones
+// slower than app.db.slow-query.threshold-ms. With app.db.slow-query.explain on, the
+// first slow run of each SELECT fingerprint is re-run as EXPLAIN on the same connection
+// and the plan kept with its stats. At most app.db.slow-query.max-fingerprints distinct
+// fingerprints are tracked; statements past that only count towards "dropped".
+@Component
+public class SlowQueryLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    @Value("${app.db.slow-query.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.db.slow-query.threshold-ms:500}")
+    private long thresholdMs;
+
+    @Value("${app.db.slow-query.explain:false}")
+    private boolean explain;
+
+    @Value("${app.db.slow-query.max-fingerprints:1000}")
+    private int maxFingerprints;
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private static final class Stats {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder slowCount = new LongAdder();
+        volatile Instant lastSlowAt;
+        volatile String plan;
+    }
+
+    public boolean isExplainEnabled() {
+        return enabled && explain;
+    }
+
+    public void record(String sql, long nanos, Connection connection, Map<Integer, Object> parameters) {
+        if (!enabled) {
+            return;
+        }
+        String fingerprint = fingerprint(sql);
+        Stats entry = stats.get(fingerprint);
+        if (entry == null) {
+            if (stats.size() >= maxFingerprints) {
+                dropped.increment();
+                return;
+            }
+            entry = stats.computeIfAbsent(fingerprint, key -> new Stats());
+        }
+        entry.count.increment();
+        entry.totalNanos.add(nanos);
+        entry.maxNanos.accumulateAndGet(nanos, Math::max);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (elapsedMs < thresholdMs) {
+            return;
+        }
+        entry.slowCount.increment();
+        entry.lastSlowAt = Instant.now();
+        logger.warn("Slow query ({}ms): {}", elapsedMs, fingerprint);
+
+        if (isExplainEnabled() && entry.plan == null && isSelect(sql)) {
+            entry.plan = explain(sql, connection, parameters);
+            logger.warn("Plan for slow query: {}\n{}", fingerprint, entry.plan);
+        }
+    }
+
+    public List<QueryFingerprint> snapshot() {
+        List<QueryFingerprint> result = new ArrayList<>(stats.size());
+        stats.forEach((fingerprint, entry) -> {
+            long count = entry.count.sum();
+            double totalMs = entry.totalNanos.sum() / 1_000_000.0;
+            result.add(new QueryFingerprint(fingerprint, count, entry.slowCount.sum(), totalMs,
+                    count > 0 ? totalMs / count : 0, entry.maxNanos.get() / 1_000_000.0,
+                    entry.lastSlowAt, entry.plan));
+        });
+        result.sort(Comparator.comparingDouble(QueryFingerprint::getTotalMs).reversed());
+        return result;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public void reset() {
+        stats.clear();
+        dropped.reset();
+    }
+
+    static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return PLACEHOLDER_LIST.matcher(normalized).replaceAll("(?+)");
+    }
+
+    private static boolean isSelect(String sql) {
+        String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return start.startsWith("select") || start.startsWith("with");
+    }
+
+    // EXPLAIN rows as "column=value" lines; a failure only costs the plan, never the query
+    private static String explain(String sql, Connection connection, Map<Integer, Object> parameters) {
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                if (parameter.getValue() == null) {
+                    ps.setNull(parameter.getKey(), Types.NULL);
+                } else {
+                    ps.setObject(parameter.getKey(), parameter.getValue());
+                }
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                while (rs.next()) {
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        if (i > 1) {
+                            plan.append(", ");
+                        }
+                        plan.append(meta.getColumnLabel(i)).append('=').append(rs.getString(i));
+                    }
+                    plan.append('\n');
+                }
+            }
+            return plan.toString().stripTrailing();
+        } catch (SQLException e) {
+            logger.debug("Could not capture plan: {}", e.getMessage());
+            return "unavailable: " + e.getMessage();
+        }
+    }
+}
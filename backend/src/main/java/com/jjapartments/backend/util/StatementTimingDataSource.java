@@ -0,0 +1,133 @@
+package com.jjapartments.backend.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Times every statement executed on connections from the target DataSource and hands
+// the SQL and elapsed time to the SlowQueryLog. Prepared statement parameters are kept
+// only while plan capture is on, so a slow SELECT can be re-run under EXPLAIN.
+// The time covers execute*() only: rows a caller streams afterwards are not included.
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+    private final Supplier<SlowQueryLog> slowQueryLogSupplier;
+    private volatile SlowQueryLog slowQueryLog;
+
+    public StatementTimingDataSource(DataSource target, Supplier<SlowQueryLog> slowQueryLogSupplier) {
+        super(target);
+        this.slowQueryLogSupplier = slowQueryLogSupplier;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    // the log is a regular bean, created after the DataSource; statements run before then are not timed
+    private SlowQueryLog log() {
+        SlowQueryLog log = slowQueryLog;
+        if (log == null) {
+            log = slowQueryLogSupplier.get();
+            slowQueryLog = log;
+        }
+        return log;
+    }
+
+    private Connection timed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            Object result = invoke(connection, method, args);
+                            if (result instanceof Statement statement) {
+                                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                                return timed(statement, connection, sql);
+                            }
+                            return result;
+                    }
+                });
+    }
+
+    private Statement timed(Statement statement, Connection connection, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        Map<Integer, Object> parameters = new TreeMap<>();
+        String[] batchSql = new String[1];
+
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    SlowQueryLog log = log();
+                    if (log == null) {
+                        return invoke(statement, method, args);
+                    }
+
+                    if (log.isExplainEnabled() && preparedSql != null) {
+                        if (name.equals("setNull") && args != null && args[0] instanceof Integer index) {
+                            // setNull's second argument is the SQL type code, not a value
+                            parameters.put(index, null);
+                        } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            parameters.put(index, args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            parameters.clear();
+                        }
+                    }
+                    if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String s) {
+                        batchSql[0] = s;
+                    }
+                    if (!name.startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+
+                    String sql = preparedSql;
+                    if (sql == null) {
+                        sql = args != null && args.length > 0 && args[0] instanceof String s ? s : batchSql[0];
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        if (sql != null) {
+                            log.record(sql, System.nanoTime() - start, connection,
+                                    preparedSql != null ? parameters : Map.of());
+                        }
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}